@@ -0,0 +1,66 @@
+package com.yourproject.benchmark;
+
+import com.yourproject.models.City;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.Population;
+import com.yourproject.models.Route;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Fixed-seed instances shared by the benchmarks: cities uniformly spread over a
+ * 10000 x 10000 square and populations of shuffled tours starting at city 0
+ */
+final class BenchmarkGraphs {
+
+    static final long SEED = 42;
+
+    private BenchmarkGraphs() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    static Map<String, City> randomCities(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Map<String, City> cities = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String id = "c" + i;
+            cities.put(id, new City(id, id, random.nextDouble() * 10_000, random.nextDouble() * 10_000));
+        }
+        return cities;
+    }
+
+    static CityGraph randomGraph(int count) {
+        return CityGraph.of(randomCities(count).values());
+    }
+
+    static int[] shuffledTour(int cities, SplittableRandom random) {
+        int[] tour = new int[cities - 1];
+        for (int i = 0; i < tour.length; i++) {
+            tour[i] = i + 1;
+        }
+        for (int i = tour.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = tour[i];
+            tour[i] = tour[j];
+            tour[j] = temp;
+        }
+        return tour;
+    }
+
+    /**
+     * Evaluated population of random tours
+     */
+    static Population randomPopulation(CityGraph graph, int size, SplittableRandom random) {
+        List<Route> routes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Route route = new Route(graph, 0, shuffledTour(graph.size(), random));
+            route.getTotalDistance();
+            routes.add(route);
+        }
+        return new Population(routes);
+    }
+}
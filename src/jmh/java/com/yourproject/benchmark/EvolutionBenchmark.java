@@ -0,0 +1,96 @@
+package com.yourproject.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GenerationResult;
+import com.yourproject.models.HistoryPolicy;
+import com.yourproject.services.GenerationLogSampler;
+import com.yourproject.services.GeneticAlgorithmService;
+import com.yourproject.services.cache.ResultCache;
+import com.yourproject.services.island.MigrationNode;
+import com.yourproject.services.metrics.GAMetrics;
+import com.yourproject.services.session.RunSession;
+import com.yourproject.services.session.RunSessionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full generation (selection, PMX, mutation, evaluation and summary) of a run
+ * created through the service, without Spring; the run keeps evolving across calls
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Thread)
+public class EvolutionBenchmark {
+
+    @Param({"8", "100", "1000", "10000"})
+    public int cities;
+
+    @Param({"100", "1000"})
+    public int populationSize;
+
+    // Threads do pool do AG (1 = sequencial, comparável entre máquinas)
+    @Param({"1"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private MigrationNode migrationNode;
+    private GeneticAlgorithmService service;
+    private String runId;
+    private int generation;
+
+    @Setup
+    public void setup() {
+        // O log por geração mediria o console, não o AG
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        pool = new ForkJoinPool(parallelism);
+        migrationNode = new MigrationNode(0, "127.0.0.1", "");
+        service = new GeneticAlgorithmService(pool, new RunSessionRegistry(4, 1, Duration.ofHours(1)),
+            migrationNode, new ResultCache(0, Duration.ZERO), new GAMetrics(new SimpleMeterRegistry()),
+            new GenerationLogSampler(0, Duration.ZERO));
+        service.setCities(BenchmarkGraphs.randomCities(cities));
+
+        GAConfig config = new GAConfig();
+        config.setPopulationSize(populationSize);
+        config.setStartCityId("c0");
+        config.setSeed(BenchmarkGraphs.SEED);
+        config.setParallelism(parallelism);
+        config.setHistoryPolicy(HistoryPolicy.NONE);
+
+        RunSession session = service.initializePopulation(config);
+        runId = session.getId();
+        generation = 0;
+    }
+
+    @Benchmark
+    public GenerationResult evolveGeneration() {
+        return service.evolveGeneration(runId, ++generation);
+    }
+
+    @TearDown
+    public void tearDown() {
+        migrationNode.close();
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,151 @@
+package com.yourproject.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GenerationResult;
+import com.yourproject.models.HistoryPolicy;
+import com.yourproject.services.GenerationLogSampler;
+import com.yourproject.services.GeneticAlgorithmService;
+import com.yourproject.services.cache.ResultCache;
+import com.yourproject.services.island.MigrationNode;
+import com.yourproject.services.metrics.GAMetrics;
+import com.yourproject.services.session.RunSessionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per-generation log on a small, fast instance (where it weighs the most):
+ * no generation log, a line every generation, and the default sampling, each written
+ * to a file synchronously or through the same async appender as logback-spring.xml
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GenerationLoggingBenchmark {
+
+    public enum Logging {
+        OFF,
+        EVERY_GENERATION,
+        SAMPLED
+    }
+
+    @Param({"OFF", "EVERY_GENERATION", "SAMPLED"})
+    public Logging logging;
+
+    @Param({"false", "true"})
+    public boolean async;
+
+    @Param({"100"})
+    public int cities;
+
+    @Param({"100"})
+    public int populationSize;
+
+    private ForkJoinPool pool;
+    private MigrationNode migrationNode;
+    private GeneticAlgorithmService service;
+    private Appender<ILoggingEvent> appender;
+    private File logFile;
+    private String runId;
+    private int generation;
+
+    @Setup
+    public void setup() throws IOException {
+        configureLogging();
+
+        GenerationLogSampler sampler = switch (logging) {
+            case OFF -> new GenerationLogSampler(0, Duration.ZERO);
+            case EVERY_GENERATION -> new GenerationLogSampler(1, Duration.ZERO);
+            case SAMPLED -> new GenerationLogSampler(10, Duration.ofSeconds(1));
+        };
+
+        pool = new ForkJoinPool(1);
+        migrationNode = new MigrationNode(0, "127.0.0.1", "");
+        service = new GeneticAlgorithmService(pool, new RunSessionRegistry(4, 1, Duration.ofHours(1)),
+            migrationNode, new ResultCache(0, Duration.ZERO), new GAMetrics(new SimpleMeterRegistry()), sampler);
+        service.setCities(BenchmarkGraphs.randomCities(cities));
+
+        GAConfig config = new GAConfig();
+        config.setPopulationSize(populationSize);
+        config.setStartCityId("c0");
+        config.setSeed(BenchmarkGraphs.SEED);
+        config.setParallelism(1);
+        config.setHistoryPolicy(HistoryPolicy.NONE);
+        runId = service.initializePopulation(config).getId();
+        generation = 0;
+    }
+
+    private void configureLogging() throws IOException {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(Level.INFO);
+
+        logFile = File.createTempFile("ga-benchmark", ".log");
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.getAbsolutePath());
+        file.setEncoder(encoder);
+        file.start();
+
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(file);
+            asyncAppender.start();
+            appender = asyncAppender;
+        } else {
+            appender = file;
+        }
+        root.addAppender(appender);
+    }
+
+    @Benchmark
+    public GenerationResult evolveGeneration() {
+        return service.evolveGeneration(runId, ++generation);
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+        migrationNode.close();
+        pool.shutdown();
+        logFile.delete();
+    }
+}
@@ -0,0 +1,85 @@
+package com.yourproject.benchmark;
+
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.Route;
+import com.yourproject.services.operators.MutationOperator;
+import com.yourproject.services.operators.PMXCrossover;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route operators: PMX crossover, the three mutations (always firing, so every
+ * call copies and mutates) and a full distance evaluation
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Thread)
+public class OperatorBenchmark {
+
+    @Param({"8", "100", "1000", "10000"})
+    public int cities;
+
+    private CityGraph graph;
+    private Route parent1;
+    private Route parent2;
+    private int[] tour;
+    private MutationOperator mutation;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(BenchmarkGraphs.SEED);
+        graph = BenchmarkGraphs.randomGraph(cities);
+        parent1 = new Route(graph, 0, BenchmarkGraphs.shuffledTour(cities, random));
+        parent2 = new Route(graph, 0, BenchmarkGraphs.shuffledTour(cities, random));
+        parent1.getTotalDistance();
+        parent2.getTotalDistance();
+        tour = parent1.getTour();
+        mutation = new MutationOperator(BenchmarkGraphs.SEED);
+    }
+
+    @Benchmark
+    public Route[] pmxCrossover() {
+        // Segmento [point1, point2) aleatório e não vazio
+        int length = cities - 1;
+        int point1 = random.nextInt(length);
+        int point2 = point1 + 1 + random.nextInt(length - point1);
+        return PMXCrossover.crossover(parent1, parent2, point1, point2);
+    }
+
+    @Benchmark
+    public Route swapMutation() {
+        return mutation.mutate(parent1, 1.0, random);
+    }
+
+    @Benchmark
+    public Route inversionMutation() {
+        return mutation.inversionMutate(parent1, 1.0, random);
+    }
+
+    @Benchmark
+    public Route scrambleMutation() {
+        return mutation.scrambleMutate(parent1, 1.0, random);
+    }
+
+    @Benchmark
+    public double totalDistance() {
+        // Rota nova a cada chamada: a distância em cache não é reaproveitada
+        return new Route(graph, 0, tour).getTotalDistance();
+    }
+}
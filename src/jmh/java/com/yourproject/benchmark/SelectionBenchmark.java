@@ -0,0 +1,93 @@
+package com.yourproject.benchmark;
+
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.Population;
+import com.yourproject.models.Route;
+import com.yourproject.services.operators.SelectionOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selection strategies and population sorting over an evaluated random population
+ *
+ * rankSelection sorts the population it is given, so it runs on a fresh unsorted copy
+ * like sortByFitness; the other strategies share one population.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Thread)
+public class SelectionBenchmark {
+
+    private static final int TOURNAMENT_SIZE = 5;
+    private static final int ELITE_COUNT = 5;
+
+    @Param({"8", "100", "1000", "10000"})
+    public int cities;
+
+    @Param({"100", "1000"})
+    public int populationSize;
+
+    private Population population;
+    private List<Route> routes;
+    private double[] distances;
+    private SelectionOperator selection;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(BenchmarkGraphs.SEED);
+        CityGraph graph = BenchmarkGraphs.randomGraph(cities);
+        population = BenchmarkGraphs.randomPopulation(graph, populationSize, random);
+        routes = population.getRoutes();
+        distances = population.getDistances();
+        selection = new SelectionOperator(BenchmarkGraphs.SEED);
+    }
+
+    @Benchmark
+    public int tournamentSelection() {
+        return selection.tournamentIndex(distances, TOURNAMENT_SIZE, random);
+    }
+
+    @Benchmark
+    public Route rouletteSelection() {
+        return selection.rouletteSelection(population);
+    }
+
+    @Benchmark
+    public Route rankSelection() {
+        return selection.rankSelection(new Population(routes));
+    }
+
+    @Benchmark
+    public List<Route> stochasticUniversalSampling() {
+        return selection.stochasticUniversalSampling(population, populationSize);
+    }
+
+    @Benchmark
+    public List<Route> eliteSelection() {
+        return selection.selectElite(new Population(routes), ELITE_COUNT);
+    }
+
+    @Benchmark
+    public Population sortByFitness() {
+        Population copy = new Population(routes);
+        copy.sortByFitness();
+        return copy;
+    }
+}
@@ -0,0 +1,30 @@
+package com.yourproject.config;
+
+import com.yourproject.services.GAJobService;
+import com.yourproject.services.session.RunSessionRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gauges de execuções ativas e da fila de jobs (expostos em /actuator/prometheus)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder gaRunGauges(RunSessionRegistry sessions, GAJobService jobs) {
+        return registry -> {
+            Gauge.builder("ga.runs.active", sessions, RunSessionRegistry::getActiveRuns)
+                .description("Runs computing right now")
+                .register(registry);
+            Gauge.builder("ga.runs.sessions", sessions, RunSessionRegistry::size)
+                .description("Run sessions kept in memory")
+                .register(registry);
+            Gauge.builder("ga.jobs.queue.depth", jobs, GAJobService::getQueueDepth)
+                .description("Background jobs waiting for a worker")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.yourproject.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Pool de threads compartilhado pelos estágios paralelos do AG
+ */
+@Configuration
+public class ParallelismConfig {
+    private static final Logger logger = LoggerFactory.getLogger(ParallelismConfig.class);
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool gaForkJoinPool(@Value("${app.ga.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        logger.info("GA ForkJoinPool com {} threads", threads);
+        return new ForkJoinPool(threads);
+    }
+}
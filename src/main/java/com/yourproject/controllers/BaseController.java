@@ -2,6 +2,7 @@ package com.yourproject.controllers;
 
 import com.yourproject.models.ApiResponse;
 import com.yourproject.models.ErrorResponse;
+import com.yourproject.models.GAConfig;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
@@ -26,6 +27,19 @@ public abstract class BaseController {
         return ResponseEntity.status(201).body(ApiResponse.success(data));
     }
 
+    protected <T> ResponseEntity<ApiResponse<T>> accepted(T data) {
+        return ResponseEntity.status(202).body(ApiResponse.success(data));
+    }
+
+    /**
+     * Taxa de mutação exigida pelo enunciado para as execuções (0.5% a 1.0%)
+     */
+    protected static void validateMutationRate(GAConfig config) {
+        if (config.getMutationRate() < 0.5 || config.getMutationRate() > 1.0) {
+            throw new IllegalArgumentException("Taxa de mutação deve estar entre 0.5% e 1.0% (enunciado)");
+        }
+    }
+
     protected ResponseEntity<ErrorResponse> error(ErrorResponse errorResponse) {
         return ResponseEntity
             .status(500)
@@ -0,0 +1,81 @@
+package com.yourproject.controllers;
+
+import com.yourproject.models.GenerationResult;
+import com.yourproject.services.session.RunListener;
+import com.yourproject.services.session.RunSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Forwards the generations of a run to an SSE client
+ * 
+ * Events: "generation" (GenerationResult) for each generation, "result" with the
+ * final GAExecutionResult when there is one, and "done" with the job status before
+ * the stream closes.
+ */
+class GenerationEventEmitter implements RunListener {
+    private static final Logger logger = LoggerFactory.getLogger(GenerationEventEmitter.class);
+
+    private final SseEmitter emitter;
+    private final Function<RunSession, Object> status;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Consumer<RunSession> onDisconnect = session -> {};
+
+    GenerationEventEmitter(SseEmitter emitter, Function<RunSession, Object> status) {
+        this.emitter = emitter;
+        this.status = status;
+    }
+
+    /**
+     * Action to run when the client goes away before the run finishes
+     */
+    void onDisconnect(Consumer<RunSession> action) {
+        this.onDisconnect = action;
+    }
+
+    @Override
+    public void onGeneration(RunSession session, GenerationResult result) {
+        if (closed.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event()
+                .name("generation")
+                .id(String.valueOf(result.getGeneration()))
+                .data(result));
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Cliente SSE desconectado da execução {}", session.getId());
+            disconnect(session);
+        }
+    }
+
+    @Override
+    public void onFinished(RunSession session) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        session.removeListener(this);
+        try {
+            if (session.getResult() != null) {
+                emitter.send(SseEmitter.event().name("result").data(session.getResult()));
+            }
+            emitter.send(SseEmitter.event().name("done").data(status.apply(session)));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    void disconnect(RunSession session) {
+        if (closed.compareAndSet(false, true)) {
+            session.removeListener(this);
+            onDisconnect.accept(session);
+        }
+    }
+}
@@ -2,10 +2,16 @@ package com.yourproject.controllers;
 
 import com.yourproject.models.*;
 import com.yourproject.services.GeneticAlgorithmService;
+import com.yourproject.services.session.RunSession;
+import com.yourproject.services.tsplib.TsplibParser;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +23,9 @@ import java.util.Map;
  * - Get current population statistics
  * - View generation history
  * - Get the best route found
+ * 
+ * Every run gets a run ID (returned by /initialize and /run). Endpoints that read a
+ * run accept it as the runId parameter and default to the most recent run.
  */
 @RestController
 @RequestMapping("/tsp")
@@ -34,14 +43,14 @@ public class TSPController extends BaseController {
      * POST /api/tsp/initialize
      * 
      * @param config GA configuration
-     * @return Population statistics
+     * @return Population statistics, including the new run ID
      */
     @PostMapping("/initialize")
     public ResponseEntity<ApiResponse<Map<String, Object>>> initializePopulation(
             @Valid @RequestBody GAConfig config) {
         
-        gaService.initializePopulation(config);
-        Map<String, Object> stats = gaService.getPopulationStats();
+        RunSession session = gaService.initializePopulation(config);
+        Map<String, Object> stats = gaService.getPopulationStats(session.getId());
         
         return ok(stats);
     }
@@ -52,17 +61,19 @@ public class TSPController extends BaseController {
      * POST /api/tsp/evolve
      * 
      * @param generation Generation number
+     * @param runId Run to evolve (default: most recent)
      * @return Generation result with statistics
      */
     @PostMapping("/evolve")
     public ResponseEntity<ApiResponse<GenerationResult>> evolveGeneration(
-            @RequestParam(defaultValue = "1") int generation) {
+            @RequestParam(defaultValue = "1") int generation,
+            @RequestParam(required = false) String runId) {
         
-        if (gaService.getCurrentPopulation() == null) {
+        if (!gaService.hasPopulation(runId)) {
             throw new IllegalStateException("Population not initialized. Call /initialize or /run first.");
         }
         
-        GenerationResult result = gaService.evolveGeneration(generation);
+        GenerationResult result = gaService.evolveGeneration(runId, generation);
         return ok(result);
     }
 
@@ -78,9 +89,7 @@ public class TSPController extends BaseController {
     public ResponseEntity<ApiResponse<GAExecutionResult>> runGeneticAlgorithm(
             @Valid @RequestBody GAConfig config) {
         
-        if (config.getMutationRate() < 0.5 || config.getMutationRate() > 1.0) {
-            throw new IllegalArgumentException("Taxa de mutação deve estar entre 0.5% e 1.0% (enunciado)");
-        }
+        validateMutationRate(config);
         
         GAExecutionResult result = gaService.runGeneticAlgorithm(config);
         return ok(result);
@@ -91,15 +100,17 @@ public class TSPController extends BaseController {
      * 
      * GET /api/tsp/stats
      * 
+     * @param runId Run to inspect (default: most recent)
      * @return Population statistics
      */
     @GetMapping("/stats")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getPopulationStats() {
-        if (gaService.getCurrentPopulation() == null) {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPopulationStats(
+            @RequestParam(required = false) String runId) {
+        if (!gaService.hasPopulation(runId)) {
             throw new IllegalStateException("Population not initialized. Call /initialize or /run first.");
         }
         
-        Map<String, Object> stats = gaService.getPopulationStats();
+        Map<String, Object> stats = gaService.getPopulationStats(runId);
         return ok(stats);
     }
 
@@ -108,11 +119,13 @@ public class TSPController extends BaseController {
      * 
      * GET /api/tsp/history
      * 
+     * @param runId Run to inspect (default: most recent)
      * @return List of generation results
      */
     @GetMapping("/history")
-    public ResponseEntity<ApiResponse<List<GenerationResult>>> getHistory() {
-        List<GenerationResult> history = gaService.getHistory();
+    public ResponseEntity<ApiResponse<List<GenerationResult>>> getHistory(
+            @RequestParam(required = false) String runId) {
+        List<GenerationResult> history = gaService.getHistory(runId);
         
         if (history.isEmpty()) {
             throw new IllegalStateException("No generation history available. Call /run first.");
@@ -121,24 +134,35 @@ public class TSPController extends BaseController {
         return ok(history);
     }
 
+    /**
+     * Get generation statistics in columnar form (one array per statistic)
+     * 
+     * GET /api/tsp/history/stats
+     * 
+     * @param runId Run to inspect (default: most recent)
+     * @return Best/average/worst distances of the retained generations
+     */
+    @GetMapping("/history/stats")
+    public ResponseEntity<ApiResponse<HistoryStats>> getHistoryStats(
+            @RequestParam(required = false) String runId) {
+        return ok(gaService.getHistoryStats(runId));
+    }
+
     /**
      * Get current population (top N routes)
      * 
      * GET /api/tsp/population
      * 
      * @param top Number of top routes to return (default 10)
+     * @param runId Run to inspect (default: most recent)
      * @return Top routes from current population
      */
     @GetMapping("/population")
     public ResponseEntity<ApiResponse<List<Route>>> getPopulation(
-            @RequestParam(defaultValue = "10") int top) {
-        
-        Population population = gaService.getCurrentPopulation();
-        if (population == null) {
-            return ok(List.of());
-        }
+            @RequestParam(defaultValue = "10") int top,
+            @RequestParam(required = false) String runId) {
         
-        List<Route> topRoutes = population.getTopRoutes(top);
+        List<Route> topRoutes = gaService.getTopRoutes(runId, top);
         return ok(topRoutes);
     }
 
@@ -147,19 +171,55 @@ public class TSPController extends BaseController {
      * 
      * GET /api/tsp/best
      * 
+     * @param runId Run to inspect (default: most recent)
      * @return Best route
      */
     @GetMapping("/best")
-    public ResponseEntity<ApiResponse<Route>> getBestRoute() {
-        Population population = gaService.getCurrentPopulation();
-        if (population == null) {
-            return ok(null);
-        }
-        
-        Route bestRoute = population.getBestRoute();
+    public ResponseEntity<ApiResponse<Route>> getBestRoute(
+            @RequestParam(required = false) String runId) {
+        Route bestRoute = gaService.getBestRoute(runId);
         return ok(bestRoute);
     }
 
+    /**
+     * Discard a run and free its population and history
+     * 
+     * DELETE /api/tsp/runs/{runId}
+     * 
+     * @param runId Run to discard
+     * @return Empty response
+     */
+    @DeleteMapping("/runs/{runId}")
+    public ResponseEntity<ApiResponse<Void>> deleteRun(@PathVariable String runId) {
+        gaService.deleteRun(runId);
+        return okEmpty();
+    }
+
+    /**
+     * Get result cache statistics (size, hits, misses, evictions)
+     * 
+     * GET /api/tsp/cache/stats
+     * 
+     * @return Cache statistics
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheStats() {
+        return ok(gaService.getCacheStats());
+    }
+
+    /**
+     * Drop every cached result and best known tour
+     * 
+     * DELETE /api/tsp/cache
+     * 
+     * @return Empty response
+     */
+    @DeleteMapping("/cache")
+    public ResponseEntity<ApiResponse<Void>> clearCache() {
+        gaService.clearCache();
+        return okEmpty();
+    }
+
     /**
      * Get available cities in the graph
      * 
@@ -174,7 +234,7 @@ public class TSPController extends BaseController {
     }
 
     /**
-     * Set custom cities (for testing different graphs)
+     * Set custom cities (Euclidean distances between coordinates)
      * 
      * POST /api/tsp/cities
      * 
@@ -195,6 +255,73 @@ public class TSPController extends BaseController {
         return ok(response);
     }
 
+    /**
+     * Upload a graph with coordinate-based (Euclidean/haversine) or explicit edge distances
+     * 
+     * POST /api/tsp/graph
+     * 
+     * @param request Cities and distance source
+     * @return Confirmation message
+     */
+    @PostMapping("/graph")
+    public ResponseEntity<ApiResponse<Map<String, String>>> setGraph(
+            @Valid @RequestBody GraphRequest request) {
+        
+        CityGraph graph = gaService.setGraph(request);
+        
+        Map<String, String> response = Map.of(
+            "message", "Graph updated successfully",
+            "count", String.valueOf(graph.size()),
+            "symmetric", String.valueOf(graph.getDistances().isSymmetric())
+        );
+        
+        return ok(response);
+    }
+
+    /**
+     * Upload a TSPLIB .tsp/.atsp file as a multipart form field
+     * 
+     * POST /api/tsp/graph/tsplib (multipart/form-data, field "file")
+     * 
+     * @param file TSPLIB instance
+     * @return Confirmation message with the instance name and size
+     */
+    @PostMapping(value = "/graph/tsplib", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<Map<String, String>>> uploadTsplibFile(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        
+        try (InputStream in = file.getInputStream()) {
+            return tsplibLoaded(gaService.loadTsplib(in));
+        }
+    }
+
+    /**
+     * Upload a TSPLIB .tsp/.atsp file as the raw request body, parsed while it streams in
+     * 
+     * POST /api/tsp/graph/tsplib (text/plain or application/octet-stream)
+     * 
+     * @param body TSPLIB instance
+     * @return Confirmation message with the instance name and size
+     */
+    @PostMapping(value = "/graph/tsplib", consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ApiResponse<Map<String, String>>> uploadTsplib(InputStream body) throws IOException {
+        return tsplibLoaded(gaService.loadTsplib(body));
+    }
+
+    private ResponseEntity<ApiResponse<Map<String, String>>> tsplibLoaded(TsplibParser.Instance instance) {
+        Map<String, String> response = Map.of(
+            "message", "Graph updated successfully",
+            "name", instance.name(),
+            "type", instance.type(),
+            "edgeWeightType", instance.edgeWeightType(),
+            "count", String.valueOf(instance.graph().size()),
+            "symmetric", String.valueOf(instance.graph().getDistances().isSymmetric()),
+            "coordinates", String.valueOf(instance.hasCoordinates())
+        );
+        
+        return ok(response);
+    }
+
     /**
      * Get default GA configuration
      * 
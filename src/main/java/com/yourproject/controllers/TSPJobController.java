@@ -0,0 +1,153 @@
+package com.yourproject.controllers;
+
+import com.yourproject.models.*;
+import com.yourproject.services.GAJobService;
+import com.yourproject.services.session.RunSession;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+/**
+ * Asynchronous GA jobs
+ * 
+ * Submitting returns immediately with a job ID; the run continues on a bounded
+ * worker pool and can be polled, streamed (Server-Sent Events) or cancelled. The job
+ * ID is also a run ID for the /tsp read endpoints.
+ */
+@RestController
+@RequestMapping("/tsp/jobs")
+public class TSPJobController extends BaseController {
+
+    private final GAJobService jobService;
+    private final long streamTimeoutMs;
+
+    public TSPJobController(
+            GAJobService jobService,
+            @Value("${app.ga.jobs.stream-timeout:30m}") Duration streamTimeout) {
+        this.jobService = jobService;
+        this.streamTimeoutMs = streamTimeout.toMillis();
+    }
+
+    /**
+     * Submit a GA run
+     * 
+     * POST /api/tsp/jobs
+     * 
+     * @param config GA configuration
+     * @return Initial job status (QUEUED)
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<JobStatus>> submit(@Valid @RequestBody GAConfig config) {
+        validateMutationRate(config);
+
+        RunSession session = jobService.submit(config);
+        return accepted(jobService.getStatus(session.getId()));
+    }
+
+    /**
+     * Submit a GA run and stream each generation as it is produced
+     * 
+     * POST /api/tsp/jobs/stream
+     * 
+     * The run keeps no history (memory stays constant); closing the stream cancels it.
+     * 
+     * @param config GA configuration
+     * @return SSE stream of "generation", "result" and "done" events
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter submitAndStream(@Valid @RequestBody GAConfig config) {
+        validateMutationRate(config);
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        GenerationEventEmitter events = new GenerationEventEmitter(emitter, session -> jobService.getStatus(session.getId()));
+        // Antes de enfileirar: o cliente pode cair já na primeira geração
+        events.onDisconnect(session -> jobService.cancel(session.getId()));
+        RunSession session = jobService.submitStreaming(config, events);
+
+        emitter.onCompletion(() -> events.disconnect(session));
+        emitter.onTimeout(() -> events.disconnect(session));
+        emitter.onError(e -> events.disconnect(session));
+        return emitter;
+    }
+
+    /**
+     * Follow the generations of an existing job
+     * 
+     * GET /api/tsp/jobs/{jobId}/events
+     * 
+     * @param jobId Job ID
+     * @return SSE stream of "generation", "result" and "done" events
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@PathVariable String jobId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        GenerationEventEmitter events = new GenerationEventEmitter(emitter, session -> jobService.getStatus(session.getId()));
+
+        RunSession session = jobService.getSession(jobId);
+        emitter.onCompletion(() -> events.disconnect(session));
+        emitter.onTimeout(() -> events.disconnect(session));
+        emitter.onError(e -> events.disconnect(session));
+
+        if (!jobService.subscribe(jobId, events)) {
+            events.onFinished(session);
+        }
+        return emitter;
+    }
+
+    /**
+     * Poll job progress
+     * 
+     * GET /api/tsp/jobs/{jobId}
+     * 
+     * @param jobId Job ID
+     * @return Job status
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<JobStatus>> getStatus(@PathVariable String jobId) {
+        return ok(jobService.getStatus(jobId));
+    }
+
+    /**
+     * Most recent generation of the job
+     * 
+     * GET /api/tsp/jobs/{jobId}/best
+     * 
+     * @param jobId Job ID
+     * @return Latest generation result (empty before the first generation)
+     */
+    @GetMapping("/{jobId}/best")
+    public ResponseEntity<ApiResponse<GenerationResult>> getCurrentBest(@PathVariable String jobId) {
+        return ok(jobService.getCurrentBest(jobId));
+    }
+
+    /**
+     * Final result of a finished job
+     * 
+     * GET /api/tsp/jobs/{jobId}/result
+     * 
+     * @param jobId Job ID
+     * @return Complete execution result
+     */
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<ApiResponse<GAExecutionResult>> getResult(@PathVariable String jobId) {
+        return ok(jobService.getResult(jobId));
+    }
+
+    /**
+     * Cancel a queued or running job
+     * 
+     * DELETE /api/tsp/jobs/{jobId}
+     * 
+     * @param jobId Job ID
+     * @return Job status after the cancel request
+     */
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<JobStatus>> cancel(@PathVariable String jobId) {
+        return ok(jobService.cancel(jobId));
+    }
+}
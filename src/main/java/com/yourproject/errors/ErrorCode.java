@@ -7,7 +7,8 @@ public enum ErrorCode {
     UNAUTHORIZED("UNAUTHORIZED"),
     FORBIDDEN("FORBIDDEN"),
     CONFLICT("CONFLICT"),
-    BUSINESS_ERROR("BUSINESS_ERROR");
+    BUSINESS_ERROR("BUSINESS_ERROR"),
+    TOO_MANY_REQUESTS("TOO_MANY_REQUESTS");
 
     private final String code;
 
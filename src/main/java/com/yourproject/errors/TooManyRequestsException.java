@@ -0,0 +1,23 @@
+package com.yourproject.errors;
+
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends AppException {
+    public TooManyRequestsException(String message) {
+        super(
+            ErrorCode.TOO_MANY_REQUESTS,
+            message,
+            HttpStatus.TOO_MANY_REQUESTS.value()
+        );
+    }
+
+    public TooManyRequestsException(String message, Map<String, Object> details) {
+        super(
+            ErrorCode.TOO_MANY_REQUESTS,
+            message,
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            details
+        );
+    }
+}
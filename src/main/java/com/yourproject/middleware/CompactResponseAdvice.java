@@ -0,0 +1,44 @@
+package com.yourproject.middleware;
+
+import com.yourproject.models.ApiResponse;
+import com.yourproject.models.CompactResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Swaps route-bearing payloads for their {@link CompactResponse} form when content
+ * negotiation picked the compact JSON or the CBOR media type
+ *
+ * Clients ask for it with an Accept header or with ?format=compact / ?format=cbor;
+ * every other response keeps the default representation.
+ */
+@RestControllerAdvice
+public class CompactResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final MediaType COMPACT_JSON = MediaType.parseMediaType(CompactResponse.MEDIA_TYPE);
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> api) || !isCompact(selectedContentType)) {
+            return body;
+        }
+        CompactResponse compact = CompactResponse.of(api.data());
+        return compact != null ? new ApiResponse<>(api.success(), compact, api.timestamp()) : body;
+    }
+
+    private static boolean isCompact(MediaType mediaType) {
+        return COMPACT_JSON.equalsTypeAndSubtype(mediaType) || MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType);
+    }
+}
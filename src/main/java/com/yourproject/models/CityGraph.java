@@ -0,0 +1,184 @@
+package com.yourproject.models;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable city table of a TSP instance.
+ *
+ * Each city gets a dense ordinal (0..n-1) so routes can be encoded as int[]
+ * permutations and edge lengths resolved through the graph's {@link DistanceMatrix}
+ * without hashing. A graph is built once per upload and shared by the runs that use it.
+ */
+public class CityGraph {
+    // Vizinhos indexados na carga do grafo; listas maiores são calculadas sob demanda
+    public static final int DEFAULT_NEIGHBOR_COUNT = 16;
+
+    private final City[] cities;
+    private final DistanceMatrix distances;
+    private final Map<String, Integer> ordinals;
+    private final NeighborLists neighbors;
+    private final Map<Integer, NeighborLists> largerNeighborLists = new ConcurrentHashMap<>();
+    private volatile long fingerprint;
+    private volatile boolean fingerprinted;
+
+    private CityGraph(City[] cities, Map<String, Integer> ordinals, DistanceMatrix distances) {
+        this.cities = cities;
+        this.ordinals = ordinals;
+        this.distances = distances;
+        this.neighbors = distances.neighborLists(DEFAULT_NEIGHBOR_COUNT);
+    }
+
+    /**
+     * Graph with Euclidean distances between the city coordinates
+     */
+    public static CityGraph of(Collection<City> cities) {
+        return of(cities, DistanceMatrix.Metric.EUCLIDEAN);
+    }
+
+    public static CityGraph of(Collection<City> cities, DistanceMatrix.Metric metric) {
+        City[] table = cities.toArray(new City[0]);
+        return new CityGraph(table, indexCities(table), DistanceMatrix.fromCoordinates(Arrays.asList(table), metric));
+    }
+
+    /**
+     * Graph over an already built city table and distance matrix (same ordinals),
+     * used by bulk loaders that produce the arrays directly
+     */
+    public static CityGraph of(City[] cities, DistanceMatrix distances) {
+        if (cities.length != distances.size()) {
+            throw new IllegalArgumentException("Matriz de " + distances.size() + " cidades para " + cities.length + " cidades");
+        }
+        return new CityGraph(cities, indexCities(cities), distances);
+    }
+
+    /**
+     * Graph whose distances come from an explicit edge list
+     */
+    public static CityGraph withEdges(Collection<City> cities, List<Edge> edges, boolean directed) {
+        City[] table = cities.toArray(new City[0]);
+        Map<String, Integer> ordinals = indexCities(table);
+
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        double[] weights = new double[edges.size()];
+        for (int e = 0; e < edges.size(); e++) {
+            Edge edge = edges.get(e);
+            Integer i = ordinals.get(edge.from());
+            Integer j = ordinals.get(edge.to());
+            if (i == null || j == null) {
+                throw new IllegalArgumentException("Aresta com cidade desconhecida: " + edge.from() + "-" + edge.to());
+            }
+            from[e] = i;
+            to[e] = j;
+            weights[e] = edge.distance();
+        }
+
+        return new CityGraph(table, ordinals, DistanceMatrix.fromEdges(table.length, from, to, weights, directed));
+    }
+
+    private static Map<String, Integer> indexCities(City[] cities) {
+        Map<String, Integer> ordinals = new HashMap<>(cities.length * 2);
+        for (int i = 0; i < cities.length; i++) {
+            if (ordinals.put(cities[i].getId(), i) != null) {
+                throw new IllegalArgumentException("Cidade duplicada: " + cities[i].getId());
+            }
+        }
+        return ordinals;
+    }
+
+    public int size() {
+        return cities.length;
+    }
+
+    public City getCity(int ordinal) {
+        return cities[ordinal];
+    }
+
+    /**
+     * @return ordinal of the city, or -1 if it is not part of the graph
+     */
+    public int indexOf(City city) {
+        return indexOf(city.getId());
+    }
+
+    public int indexOf(String cityId) {
+        Integer ordinal = ordinals.get(cityId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public double distance(int from, int to) {
+        return distances.distance(from, to);
+    }
+
+    public DistanceMatrix getDistances() {
+        return distances;
+    }
+
+    /**
+     * k-nearest-neighbor candidate lists of this graph (k is capped at n - 1). Up to
+     * {@link #DEFAULT_NEIGHBOR_COUNT} they are views of the index built at load time;
+     * larger lists are built once per k.
+     */
+    public NeighborLists getNeighborLists(int k) {
+        if (k <= neighbors.getK() || neighbors.getK() == cities.length - 1) {
+            return neighbors.limit(k);
+        }
+        return largerNeighborLists.computeIfAbsent(k, distances::neighborLists);
+    }
+
+    /**
+     * 64-bit hash of the city ids (in ordinal order) and the distances (their metric and
+     * coordinates when coordinate-based, every entry otherwise), computed once.
+     * Two graphs with the same fingerprint accept the same ordinal tours.
+     */
+    public long getFingerprint() {
+        if (!fingerprinted) {
+            long hash = 0xcbf29ce484222325L; // FNV-1a
+            hash = mix(hash, cities.length);
+            for (City city : cities) {
+                // Comprimento e todos os chars: hashCode() colide com frequência ("Aa" e "BB")
+                String id = city.getId();
+                hash = mix(hash, id.length());
+                for (int i = 0; i < id.length(); i++) {
+                    hash = mix(hash, id.charAt(i));
+                }
+            }
+            fingerprint = distances.fingerprint(hash);
+            fingerprinted = true;
+        }
+        return fingerprint;
+    }
+
+    static long mix(long hash, long value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    public List<City> getCities() {
+        return new AbstractList<>() {
+            @Override
+            public City get(int index) {
+                return cities[index];
+            }
+
+            @Override
+            public int size() {
+                return cities.length;
+            }
+        };
+    }
+
+    public Map<String, City> toMap() {
+        Map<String, City> map = new LinkedHashMap<>();
+        for (City city : cities) {
+            map.put(city.getId(), city);
+        }
+        return map;
+    }
+}
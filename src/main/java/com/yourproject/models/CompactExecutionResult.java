@@ -0,0 +1,36 @@
+package com.yourproject.models;
+
+import java.util.List;
+
+/**
+ * Wire form of a {@link GAExecutionResult} in compact responses
+ */
+public record CompactExecutionResult(
+    String runId,
+    CompactRoute bestRoute,
+    double bestDistance,
+    int totalGenerations,
+    List<CompactGenerationResult> generationHistory,
+    HistoryStats historyStats,
+    GAConfig config,
+    long executionTimeMs,
+    StopReason stopReason,
+    long evaluations
+) {
+
+    public static CompactExecutionResult of(GAExecutionResult result) {
+        return new CompactExecutionResult(
+            result.getRunId(),
+            result.getBestRoute() != null ? CompactRoute.of(result.getBestRoute()) : null,
+            result.getBestDistance(),
+            result.getTotalGenerations(),
+            result.getGenerationHistory() != null
+                ? result.getGenerationHistory().stream().map(CompactGenerationResult::of).toList()
+                : null,
+            result.getHistoryStats(),
+            result.getConfig(),
+            result.getExecutionTimeMs(),
+            result.getStopReason(),
+            result.getEvaluations());
+    }
+}
@@ -0,0 +1,26 @@
+package com.yourproject.models;
+
+import java.util.List;
+
+/**
+ * Wire form of a {@link GenerationResult} in compact responses
+ */
+public record CompactGenerationResult(
+    int generation,
+    CompactRoute bestRoute,
+    double bestDistance,
+    double averageDistance,
+    double worstDistance,
+    List<CompactRoute> topRoutes
+) {
+
+    public static CompactGenerationResult of(GenerationResult result) {
+        return new CompactGenerationResult(
+            result.getGeneration(),
+            result.getBestRoute() != null ? CompactRoute.of(result.getBestRoute()) : null,
+            result.getBestDistance(),
+            result.getAverageDistance(),
+            result.getWorstDistance(),
+            result.getTopRoutes() != null ? result.getTopRoutes().stream().map(CompactRoute::of).toList() : null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.yourproject.models;
+
+import java.util.List;
+
+/**
+ * Compact response payload: the graph's city table, sent once, and the result with
+ * every route reduced to a {@link CompactRoute} of ordinals into that table
+ *
+ * Served for {@link #MEDIA_TYPE} (JSON) and application/cbor (binary) in place of the
+ * default representation, which repeats each city of each route in full.
+ *
+ * @param cities cities indexed by ordinal
+ * @param result CompactRoute, CompactGenerationResult, CompactExecutionResult or a list of them
+ */
+public record CompactResponse(List<City> cities, Object result) {
+
+    public static final String MEDIA_TYPE = "application/vnd.tsp.compact+json";
+
+    /**
+     * @return the compact form of a route, generation, run result or list of those, or
+     *         null if data holds no route (the default representation is already small)
+     */
+    public static CompactResponse of(Object data) {
+        if (data instanceof Route route) {
+            return new CompactResponse(route.getGraph().getCities(), CompactRoute.of(route));
+        }
+        if (data instanceof GenerationResult result && result.getBestRoute() != null) {
+            return new CompactResponse(result.getBestRoute().getGraph().getCities(), CompactGenerationResult.of(result));
+        }
+        if (data instanceof GAExecutionResult result && result.getBestRoute() != null) {
+            return new CompactResponse(result.getBestRoute().getGraph().getCities(), CompactExecutionResult.of(result));
+        }
+        if (data instanceof List<?> list && !list.isEmpty()) {
+            if (list.get(0) instanceof Route first) {
+                return new CompactResponse(first.getGraph().getCities(),
+                    list.stream().map(route -> CompactRoute.of((Route) route)).toList());
+            }
+            if (list.get(0) instanceof GenerationResult first && first.getBestRoute() != null) {
+                return new CompactResponse(first.getBestRoute().getGraph().getCities(),
+                    list.stream().map(result -> CompactGenerationResult.of((GenerationResult) result)).toList());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.yourproject.models;
+
+/**
+ * Wire form of a {@link Route} in compact responses: city ordinals into the response's
+ * city table instead of city objects
+ *
+ * @param start    ordinal of the start city (not repeated in the tour)
+ * @param tour     ordinals of the other cities in visiting order
+ * @param distance total tour length, including the edge back to the start
+ */
+public record CompactRoute(int start, int[] tour, double distance) {
+
+    public static CompactRoute of(Route route) {
+        return new CompactRoute(route.getStartIndex(), route.getTour().clone(), route.getTotalDistance());
+    }
+}
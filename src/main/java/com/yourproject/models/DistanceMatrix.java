@@ -0,0 +1,247 @@
+package com.yourproject.models;
+
+import com.yourproject.utils.DistanceCalculator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Distances between dense city ordinals
+ *
+ * Explicit distances (edge lists, TSPLIB matrices) are stored flat and row-major.
+ * Coordinate-based distances are stored the same way up to {@link #DENSE_LIMIT} cities;
+ * larger graphs keep only the coordinates and compute each distance when asked, so a
+ * 100k-city instance costs O(n) memory instead of O(n²). Either way the matrix is built
+ * once per graph and shared read-only by every route of a run.
+ */
+public final class DistanceMatrix {
+    public static final double UNREACHABLE = 999999.0; // Rotas impossíveis
+
+    // 2048² doubles = 32 MB; acima disso calcular é mais barato que ler da memória
+    public static final int DENSE_LIMIT = 2048;
+
+    // Maior n com n² cabendo num vetor Java
+    public static final int MAX_EXPLICIT_SIZE = 46_340;
+    private static final long MAX_CELLS = (long) MAX_EXPLICIT_SIZE * MAX_EXPLICIT_SIZE;
+
+    private static final int PARALLEL_THRESHOLD = 512;
+
+    /**
+     * How coordinates turn into distances. The TSPLIB metrics follow the TSPLIB 95
+     * conventions (integer distances), so tour lengths match published optima.
+     */
+    public enum Metric {
+        EUCLIDEAN,
+        /** x is the longitude and y the latitude (degrees); distances in km */
+        HAVERSINE,
+        /** TSPLIB EUC_2D: Euclidean distance rounded to the nearest integer */
+        EUC_2D,
+        /** TSPLIB CEIL_2D: Euclidean distance rounded up */
+        CEIL_2D,
+        /** TSPLIB ATT: pseudo-Euclidean distance */
+        ATT,
+        /** TSPLIB GEO: x is the latitude and y the longitude (DDD.MM); distances in km */
+        GEO;
+
+        /**
+         * @return true if nearer in the plane means nearer in this metric, so candidate
+         *         lists can be built from the coordinates
+         */
+        public boolean isPlanar() {
+            return this != HAVERSINE && this != GEO;
+        }
+
+        double distance(double x1, double y1, double x2, double y2) {
+            return switch (this) {
+                case EUCLIDEAN -> DistanceCalculator.euclidean(x1, y1, x2, y2);
+                case HAVERSINE -> DistanceCalculator.haversine(x1, y1, x2, y2);
+                case EUC_2D -> DistanceCalculator.euc2d(x1, y1, x2, y2);
+                case CEIL_2D -> DistanceCalculator.ceil2d(x1, y1, x2, y2);
+                case ATT -> DistanceCalculator.att(x1, y1, x2, y2);
+                case GEO -> DistanceCalculator.geo(x1, y1, x2, y2);
+            };
+        }
+    }
+
+    private final int size;
+    private final double[] distances; // null: calculada sob demanda a partir de x/y
+    private final double[] x;
+    private final double[] y;
+    private final Metric metric;
+    private final boolean symmetric;
+
+    private DistanceMatrix(int size, double[] distances, double[] x, double[] y, Metric metric, boolean symmetric) {
+        this.size = size;
+        this.distances = distances;
+        this.x = x;
+        this.y = y;
+        this.metric = metric;
+        this.symmetric = symmetric;
+    }
+
+    public static DistanceMatrix fromCoordinates(List<City> cities, Metric metric) {
+        int n = cities.size();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = cities.get(i).getX();
+            y[i] = cities.get(i).getY();
+        }
+        return fromCoordinates(x, y, metric);
+    }
+
+    /**
+     * Distances between the given coordinates (taking ownership of the arrays): a dense
+     * matrix up to {@link #DENSE_LIMIT} cities, computed on demand above that
+     */
+    public static DistanceMatrix fromCoordinates(double[] x, double[] y, Metric metric) {
+        int n = x.length;
+        if (n > DENSE_LIMIT) {
+            return new DistanceMatrix(n, null, x, y, metric, true);
+        }
+
+        double[] distances = new double[n * n];
+        IntStream rows = IntStream.range(0, n);
+        if (n >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(i -> {
+            int row = i * n;
+            for (int j = 0; j < n; j++) {
+                distances[row + j] = metric.distance(x[i], y[i], x[j], y[j]);
+            }
+        });
+
+        return new DistanceMatrix(n, distances, x, y, metric, true);
+    }
+
+    /**
+     * Builds the matrix from explicit edges between ordinals. Pairs without an edge
+     * are {@link #UNREACHABLE}.
+     */
+    public static DistanceMatrix fromEdges(int size, int[] from, int[] to, double[] weights, boolean directed) {
+        double[] distances = new double[cells(size)];
+        Arrays.fill(distances, UNREACHABLE);
+        for (int i = 0; i < size; i++) {
+            distances[i * size + i] = 0;
+        }
+
+        for (int e = 0; e < weights.length; e++) {
+            if (weights[e] < 0 || Double.isNaN(weights[e])) {
+                throw new IllegalArgumentException("Distância inválida na aresta " + e + ": " + weights[e]);
+            }
+            distances[from[e] * size + to[e]] = weights[e];
+            if (!directed) {
+                distances[to[e] * size + from[e]] = weights[e];
+            }
+        }
+
+        return new DistanceMatrix(size, distances, null, null, null, !directed || isSymmetric(size, distances));
+    }
+
+    /**
+     * Wraps a complete row-major matrix (taking ownership of the array)
+     */
+    public static DistanceMatrix fromArray(int size, double[] distances) {
+        if ((long) size * size != distances.length) {
+            throw new IllegalArgumentException("Matriz com " + distances.length + " valores para " + size + " cidades");
+        }
+        return new DistanceMatrix(size, distances, null, null, null, isSymmetric(size, distances));
+    }
+
+    /**
+     * @throws IllegalArgumentException if a size x size matrix does not fit in an array
+     */
+    private static int cells(int size) {
+        long cells = (long) size * size;
+        if (size < 0 || cells > MAX_CELLS) {
+            throw new IllegalArgumentException("Matriz explícita grande demais: " + size + " cidades (máximo "
+                + MAX_EXPLICIT_SIZE + ")");
+        }
+        return (int) cells;
+    }
+
+    private static boolean isSymmetric(int size, double[] distances) {
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (distances[i * size + j] != distances[j * size + i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double distance(int from, int to) {
+        if (distances != null) {
+            return distances[from * size + to];
+        }
+        return metric.distance(x[from], y[from], x[to], y[to]);
+    }
+
+    public boolean hasEdge(int from, int to) {
+        return distance(from, to) < UNREACHABLE;
+    }
+
+    public boolean isSymmetric() {
+        return symmetric;
+    }
+
+    /**
+     * @return the metric for coordinate-based matrices, null for explicit ones
+     */
+    public Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * k nearest cities of each city: from the coordinates for planar metrics and for
+     * spherical ones computed on demand (scanning every row would be O(n²) distance
+     * computations), from the matrix rows otherwise
+     */
+    NeighborLists neighborLists(int k) {
+        if (metric == null || (!metric.isPlanar() && distances != null)) {
+            return NeighborLists.fromMatrix(this, k);
+        }
+        if (metric.isPlanar()) {
+            return NeighborLists.fromCoordinates(x, y, k);
+        }
+
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            if (metric == Metric.GEO) {
+                latitudes[i] = DistanceCalculator.geoRadians(x[i]);
+                longitudes[i] = DistanceCalculator.geoRadians(y[i]);
+            } else {
+                latitudes[i] = Math.toRadians(y[i]);
+                longitudes[i] = Math.toRadians(x[i]);
+            }
+        }
+        return NeighborLists.fromSphere(latitudes, longitudes, this, k);
+    }
+
+    /**
+     * Mixes the distances into an FNV-1a hash: the metric and coordinates when the matrix
+     * is coordinate-based (O(n)), every entry otherwise
+     */
+    long fingerprint(long hash) {
+        if (metric != null) {
+            hash = CityGraph.mix(hash, metric.ordinal());
+            for (int i = 0; i < size; i++) {
+                hash = CityGraph.mix(hash, Double.doubleToLongBits(x[i]));
+                hash = CityGraph.mix(hash, Double.doubleToLongBits(y[i]));
+            }
+            return hash;
+        }
+        for (double distance : distances) {
+            hash = CityGraph.mix(hash, Double.doubleToLongBits(distance));
+        }
+        return hash;
+    }
+}
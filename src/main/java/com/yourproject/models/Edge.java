@@ -0,0 +1,16 @@
+package com.yourproject.models;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Explicit edge between two cities of the graph
+ */
+public record Edge(
+    @NotBlank
+    String from,
+    @NotBlank
+    String to,
+    @PositiveOrZero
+    double distance
+) {}
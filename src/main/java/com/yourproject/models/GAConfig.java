@@ -1,8 +1,10 @@
 package com.yourproject.models;
 
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 /**
  * Configuration for the Genetic Algorithm
@@ -43,6 +45,97 @@ public class GAConfig {
 
     private String startCityId = "F";
 
+    // Routes drawn (with replacement) per tournament when selecting parents
+    @NotNull
+    @Min(1)
+    private Integer tournamentSize = 5;
+
+    // Heuristic tours for seedingRate % of the initial population (see SeedingStrategy)
+    @NotNull
+    private SeedingStrategy seedingStrategy = SeedingStrategy.NONE;
+
+    @NotNull
+    @Min(0)
+    @Max(100)
+    private Double seedingRate = 10.0;
+
+    // 2-opt / Or-opt local search over the k nearest neighbors of each city (see MemeticMode)
+    @NotNull
+    private MemeticMode memeticMode = MemeticMode.NONE;
+
+    @NotNull
+    @Min(1)
+    private Integer neighborListSize = 10;
+
+    // Island model: populationSize is split across islands that exchange their migrationSize
+    // best routes every migrationInterval generations. With islands > 1 and parallelism > 1
+    // migrations arrive asynchronously, so a seed only reproduces a run with parallelism 1.
+    @NotNull
+    @Min(1)
+    @Max(64)
+    private Integer islands = 1;
+
+    @NotNull
+    @Min(1)
+    private Integer migrationInterval = 10;
+
+    @NotNull
+    @Min(1)
+    private Integer migrationSize = 2;
+
+    @NotNull
+    private MigrationTopology migrationTopology = MigrationTopology.RING;
+
+    // Runs on other nodes with the same migrationGroup (and the same graph) exchange
+    // migrants with this one through app.ga.migration.peers (null = this JVM only)
+    @Size(max = 64)
+    private String migrationGroup;
+
+    // Early stop criteria, checked after every generation (null = off); maxGenerations
+    // always applies. maxEvaluations counts full route evaluations, initial population included.
+    @Min(1)
+    private Integer stagnationGenerations;
+
+    @DecimalMin("0.0")
+    private Double targetDistance;
+
+    @Min(1)
+    private Long timeBudgetMs;
+
+    @Min(1)
+    private Long maxEvaluations;
+
+    // Threads used by the parallel stages of a run (null = app.ga.parallelism)
+    @Min(1)
+    private Integer parallelism;
+
+    // Fixed seed for reproducible runs (null = random); independent of parallelism
+    private Long seed;
+
+    // History retention (see HistoryPolicy); historySize is N for LAST_N, historyInterval is k for EVERY_K
+    @NotNull
+    private HistoryPolicy historyPolicy = HistoryPolicy.ALL;
+
+    @NotNull
+    @Min(1)
+    private Integer historySize = 100;
+
+    @NotNull
+    @Min(1)
+    private Integer historyInterval = 10;
+
+    // false = keep only the columnar statistics of retained generations, not their routes
+    @NotNull
+    private Boolean historyKeepRoutes = true;
+
+    // false = always compute and do not store the result in the result cache
+    @NotNull
+    private Boolean useCache = true;
+
+    // Put the best cached tour for this graph and start city into the initial population
+    @NotNull
+    private Boolean warmStart = false;
+
     public GAConfig() {}
 
     // Getters and Setters
@@ -118,6 +211,182 @@ public class GAConfig {
         this.startCityId = startCityId;
     }
 
+    public Integer getTournamentSize() {
+        return tournamentSize;
+    }
+
+    public void setTournamentSize(Integer tournamentSize) {
+        this.tournamentSize = tournamentSize;
+    }
+
+    public SeedingStrategy getSeedingStrategy() {
+        return seedingStrategy;
+    }
+
+    public void setSeedingStrategy(SeedingStrategy seedingStrategy) {
+        this.seedingStrategy = seedingStrategy;
+    }
+
+    public Double getSeedingRate() {
+        return seedingRate;
+    }
+
+    public void setSeedingRate(Double seedingRate) {
+        this.seedingRate = seedingRate;
+    }
+
+    public MemeticMode getMemeticMode() {
+        return memeticMode;
+    }
+
+    public void setMemeticMode(MemeticMode memeticMode) {
+        this.memeticMode = memeticMode;
+    }
+
+    public Integer getNeighborListSize() {
+        return neighborListSize;
+    }
+
+    public void setNeighborListSize(Integer neighborListSize) {
+        this.neighborListSize = neighborListSize;
+    }
+
+    public Integer getIslands() {
+        return islands;
+    }
+
+    public void setIslands(Integer islands) {
+        this.islands = islands;
+    }
+
+    public Integer getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    public void setMigrationInterval(Integer migrationInterval) {
+        this.migrationInterval = migrationInterval;
+    }
+
+    public Integer getMigrationSize() {
+        return migrationSize;
+    }
+
+    public void setMigrationSize(Integer migrationSize) {
+        this.migrationSize = migrationSize;
+    }
+
+    public MigrationTopology getMigrationTopology() {
+        return migrationTopology;
+    }
+
+    public void setMigrationTopology(MigrationTopology migrationTopology) {
+        this.migrationTopology = migrationTopology;
+    }
+
+    public String getMigrationGroup() {
+        return migrationGroup;
+    }
+
+    public void setMigrationGroup(String migrationGroup) {
+        this.migrationGroup = migrationGroup;
+    }
+
+    public Integer getStagnationGenerations() {
+        return stagnationGenerations;
+    }
+
+    public void setStagnationGenerations(Integer stagnationGenerations) {
+        this.stagnationGenerations = stagnationGenerations;
+    }
+
+    public Double getTargetDistance() {
+        return targetDistance;
+    }
+
+    public void setTargetDistance(Double targetDistance) {
+        this.targetDistance = targetDistance;
+    }
+
+    public Long getTimeBudgetMs() {
+        return timeBudgetMs;
+    }
+
+    public void setTimeBudgetMs(Long timeBudgetMs) {
+        this.timeBudgetMs = timeBudgetMs;
+    }
+
+    public Long getMaxEvaluations() {
+        return maxEvaluations;
+    }
+
+    public void setMaxEvaluations(Long maxEvaluations) {
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public HistoryPolicy getHistoryPolicy() {
+        return historyPolicy;
+    }
+
+    public void setHistoryPolicy(HistoryPolicy historyPolicy) {
+        this.historyPolicy = historyPolicy;
+    }
+
+    public Integer getHistorySize() {
+        return historySize;
+    }
+
+    public void setHistorySize(Integer historySize) {
+        this.historySize = historySize;
+    }
+
+    public Integer getHistoryInterval() {
+        return historyInterval;
+    }
+
+    public void setHistoryInterval(Integer historyInterval) {
+        this.historyInterval = historyInterval;
+    }
+
+    public Boolean getHistoryKeepRoutes() {
+        return historyKeepRoutes;
+    }
+
+    public void setHistoryKeepRoutes(Boolean historyKeepRoutes) {
+        this.historyKeepRoutes = historyKeepRoutes;
+    }
+
+    public Boolean getUseCache() {
+        return useCache;
+    }
+
+    public void setUseCache(Boolean useCache) {
+        this.useCache = useCache;
+    }
+
+    public Boolean getWarmStart() {
+        return warmStart;
+    }
+
+    public void setWarmStart(Boolean warmStart) {
+        this.warmStart = warmStart;
+    }
+
     @Override
     public String toString() {
         return "GAConfig{" +
@@ -129,6 +398,18 @@ public class GAConfig {
                 ", generationGap=" + generationGap +
                 ", crossoverPoints=[" + crossoverPoint1 + "," + crossoverPoint2 + "]" +
                 ", startCity='" + startCityId + '\'' +
+                ", tournamentSize=" + tournamentSize +
+                ", seeding=" + seedingStrategy + "(" + seedingRate + "%)" +
+                ", memetic=" + memeticMode +
+                ", islands=" + islands + "(" + migrationTopology + "/" + migrationInterval + ")" +
+                (migrationGroup != null ? ", migrationGroup='" + migrationGroup + '\'' : "") +
+                ", stop=[stagnation=" + stagnationGenerations + ", target=" + targetDistance +
+                ", timeBudgetMs=" + timeBudgetMs + ", maxEvaluations=" + maxEvaluations + "]" +
+                ", parallelism=" + parallelism +
+                ", seed=" + seed +
+                ", history=" + historyPolicy +
+                ", useCache=" + useCache +
+                ", warmStart=" + warmStart +
                 '}';
     }
 }
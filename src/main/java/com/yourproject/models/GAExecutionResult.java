@@ -6,26 +6,42 @@ import java.util.List;
  * Final result of the genetic algorithm execution
  */
 public class GAExecutionResult {
+    private final String runId;
     private final Route bestRoute;
     private final double bestDistance;
     private final int totalGenerations;
     private final List<GenerationResult> generationHistory;
+    private final HistoryStats historyStats;
     private final GAConfig config;
     private final long executionTimeMs;
+    private final StopReason stopReason;
+    private final long evaluations;
 
     public GAExecutionResult(
+            String runId,
             Route bestRoute,
             double bestDistance,
             int totalGenerations,
             List<GenerationResult> generationHistory,
+            HistoryStats historyStats,
             GAConfig config,
-            long executionTimeMs) {
+            long executionTimeMs,
+            StopReason stopReason,
+            long evaluations) {
+        this.runId = runId;
         this.bestRoute = bestRoute;
         this.bestDistance = bestDistance;
         this.totalGenerations = totalGenerations;
         this.generationHistory = generationHistory;
+        this.historyStats = historyStats;
         this.config = config;
         this.executionTimeMs = executionTimeMs;
+        this.stopReason = stopReason;
+        this.evaluations = evaluations;
+    }
+
+    public String getRunId() {
+        return runId;
     }
 
     public Route getBestRoute() {
@@ -44,6 +60,10 @@ public class GAExecutionResult {
         return generationHistory;
     }
 
+    public HistoryStats getHistoryStats() {
+        return historyStats;
+    }
+
     public GAConfig getConfig() {
         return config;
     }
@@ -51,4 +71,12 @@ public class GAExecutionResult {
     public long getExecutionTimeMs() {
         return executionTimeMs;
     }
+
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
 }
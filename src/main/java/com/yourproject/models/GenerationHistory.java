@@ -0,0 +1,145 @@
+package com.yourproject.models;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generation history of a run with a retention policy
+ * 
+ * Retained generations always have their statistics stored in primitive columns;
+ * the full {@link GenerationResult} (with its routes) is only kept when keepRoutes is
+ * set. LAST_N bounds both to a ring buffer of historySize entries.
+ * 
+ * Not thread-safe: the owning session synchronizes access.
+ */
+public class GenerationHistory {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final HistoryPolicy policy;
+    private final int interval;
+    private final int limit;
+    private final boolean keepRoutes;
+    private final ArrayDeque<GenerationResult> entries = new ArrayDeque<>();
+
+    // Colunas em buffer circular: [start, start + count) módulo o tamanho
+    private int[] generations = new int[0];
+    private double[] best = new double[0];
+    private double[] average = new double[0];
+    private double[] worst = new double[0];
+    private int start;
+    private int count;
+    private double bestSoFar = Double.POSITIVE_INFINITY;
+
+    public GenerationHistory(HistoryPolicy policy, int limit, int interval, boolean keepRoutes) {
+        this.policy = policy;
+        this.limit = Math.max(1, limit);
+        this.interval = Math.max(1, interval);
+        this.keepRoutes = keepRoutes;
+    }
+
+    public static GenerationHistory of(GAConfig config) {
+        return new GenerationHistory(
+            config.getHistoryPolicy(),
+            config.getHistorySize(),
+            config.getHistoryInterval(),
+            config.getHistoryKeepRoutes()
+        );
+    }
+
+    public static GenerationHistory none() {
+        return new GenerationHistory(HistoryPolicy.NONE, 1, 1, false);
+    }
+
+    public void record(GenerationResult result) {
+        boolean improved = result.getBestDistance() < bestSoFar;
+        if (improved) {
+            bestSoFar = result.getBestDistance();
+        }
+        if (!retains(result.getGeneration(), improved)) {
+            return;
+        }
+
+        appendStats(result);
+        if (keepRoutes) {
+            if (policy == HistoryPolicy.LAST_N && entries.size() == limit) {
+                entries.pollFirst();
+            }
+            entries.addLast(result);
+        }
+    }
+
+    private boolean retains(int generation, boolean improved) {
+        return switch (policy) {
+            case ALL, LAST_N -> true;
+            case EVERY_K -> generation % interval == 0;
+            case IMPROVEMENTS -> improved;
+            case NONE -> false;
+        };
+    }
+
+    private void appendStats(GenerationResult result) {
+        int slot;
+        if (policy == HistoryPolicy.LAST_N && count == limit) {
+            slot = start;
+            start = (start + 1) % limit;
+        } else {
+            if (count == generations.length) {
+                grow();
+            }
+            slot = (start + count) % generations.length;
+            count++;
+        }
+
+        generations[slot] = result.getGeneration();
+        best[slot] = result.getBestDistance();
+        average[slot] = result.getAverageDistance();
+        worst[slot] = result.getWorstDistance();
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, generations.length * 2);
+        if (policy == HistoryPolicy.LAST_N) {
+            capacity = Math.min(capacity, limit);
+        }
+        generations = unrollInts(generations, capacity);
+        best = unroll(best, capacity);
+        average = unroll(average, capacity);
+        worst = unroll(worst, capacity);
+        start = 0;
+    }
+
+    private double[] unroll(double[] column, int length) {
+        double[] copy = new double[length];
+        for (int i = 0; i < count; i++) {
+            copy[i] = column[(start + i) % column.length];
+        }
+        return copy;
+    }
+
+    private int[] unrollInts(int[] column, int length) {
+        int[] copy = new int[length];
+        for (int i = 0; i < count; i++) {
+            copy[i] = column[(start + i) % column.length];
+        }
+        return copy;
+    }
+
+    public List<GenerationResult> getEntries() {
+        return new ArrayList<>(entries);
+    }
+
+    public HistoryStats getStats() {
+        return new HistoryStats(
+            Arrays.copyOf(unrollInts(generations, generations.length), count),
+            Arrays.copyOf(unroll(best, best.length), count),
+            Arrays.copyOf(unroll(average, average.length), count),
+            Arrays.copyOf(unroll(worst, worst.length), count)
+        );
+    }
+
+    public int size() {
+        return count;
+    }
+}
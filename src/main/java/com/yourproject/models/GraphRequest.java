@@ -0,0 +1,29 @@
+package com.yourproject.models;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Graph upload: cities plus how the distances between them are obtained
+ *
+ * EUCLIDEAN and HAVERSINE derive the distances from the coordinates, EDGES uses the
+ * explicit edge list (pairs without an edge are unreachable).
+ */
+public record GraphRequest(
+    @NotEmpty
+    List<City> cities,
+    @NotNull
+    DistanceSource source,
+    @Valid
+    List<Edge> edges,
+    boolean directed
+) {
+    public enum DistanceSource {
+        EUCLIDEAN,
+        HAVERSINE,
+        EDGES
+    }
+}
@@ -0,0 +1,17 @@
+package com.yourproject.models;
+
+/**
+ * Which generations a run keeps in its history
+ */
+public enum HistoryPolicy {
+    /** Every generation */
+    ALL,
+    /** Ring buffer of the last historySize generations */
+    LAST_N,
+    /** Every historyInterval-th generation (plus generation 0) */
+    EVERY_K,
+    /** Only generations that improved the best distance */
+    IMPROVEMENTS,
+    /** Nothing */
+    NONE
+}
@@ -0,0 +1,11 @@
+package com.yourproject.models;
+
+/**
+ * Columnar form of a run's history: one primitive array per statistic, aligned by index
+ */
+public record HistoryStats(
+    int[] generation,
+    double[] bestDistance,
+    double[] averageDistance,
+    double[] worstDistance
+) {}
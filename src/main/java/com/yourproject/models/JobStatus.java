@@ -0,0 +1,17 @@
+package com.yourproject.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Progress snapshot of an asynchronous GA job
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JobStatus(
+    String jobId,
+    RunStatus status,
+    int generation,
+    int maxGenerations,
+    Double bestDistance,
+    long elapsedMs,
+    String error
+) {}
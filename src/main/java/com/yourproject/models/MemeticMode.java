@@ -0,0 +1,13 @@
+package com.yourproject.models;
+
+/**
+ * Which routes of each generation get 2-opt / Or-opt local search
+ */
+public enum MemeticMode {
+    /** Pure GA, no local search */
+    NONE,
+    /** Only the elites carried into the next generation */
+    ELITES,
+    /** Every offspring (elites are already local optima after the first generation) */
+    OFFSPRING
+}
@@ -0,0 +1,11 @@
+package com.yourproject.models;
+
+/**
+ * Where an island sends its emigrants
+ */
+public enum MigrationTopology {
+    /** To the next island (i -> i + 1, last -> first) */
+    RING,
+    /** To every other island */
+    FULLY_CONNECTED
+}
@@ -0,0 +1,372 @@
+package com.yourproject.models;
+
+import com.yourproject.utils.DistanceCalculator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Candidate lists: the k nearest cities of every city, ordered by distance (ties by ordinal)
+ *
+ * Stored flat ({@code neighbors[city * stride + r]} is the r-th nearest of city) and shared
+ * read-only by every operator that only needs to look at close cities. Built when the
+ * graph is loaded; shorter lists are views over the same array.
+ */
+public final class NeighborLists {
+
+    private static final int PARALLEL_THRESHOLD = 512;
+
+    private final int size;
+    private final int k;
+    private final int stride;
+    private final int[] neighbors;
+
+    private NeighborLists(int size, int k, int stride, int[] neighbors) {
+        this.size = size;
+        this.k = k;
+        this.stride = stride;
+        this.neighbors = neighbors;
+    }
+
+    /**
+     * Picks the k nearest cities of each row of the matrix (outgoing distances),
+     * keeping a sorted array of k candidates per row instead of sorting the row.
+     * Used for edge lists and non-planar metrics, where the matrix is the only source.
+     */
+    public static NeighborLists fromMatrix(DistanceMatrix matrix, int k) {
+        int n = matrix.size();
+        int count = Math.max(0, Math.min(k, n - 1));
+        int[] neighbors = new int[n * count];
+
+        rows(n).forEach(i -> {
+            double[] best = new double[count];
+            int filled = 0;
+            for (int j = 0; j < n; j++) {
+                if (j != i) {
+                    filled = insert(neighbors, i * count, best, filled, count, j, matrix.distance(i, j));
+                }
+            }
+        });
+
+        return new NeighborLists(n, count, count, neighbors);
+    }
+
+    /**
+     * k nearest cities by Euclidean distance using a uniform grid over the coordinates:
+     * each city scans rings of cells around its own until no closer city can remain,
+     * which is O(n·k) on typical instances instead of O(n²)
+     */
+    public static NeighborLists fromCoordinates(List<City> cities, int k) {
+        int n = cities.size();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = cities.get(i).getX();
+            y[i] = cities.get(i).getY();
+        }
+        return fromCoordinates(x, y, k);
+    }
+
+    /**
+     * Same as {@link #fromCoordinates(List, int)} over coordinate arrays indexed by ordinal
+     */
+    public static NeighborLists fromCoordinates(double[] x, double[] y, int k) {
+        int n = x.length;
+        int count = Math.max(0, Math.min(k, n - 1));
+        int[] neighbors = new int[n * count];
+        if (count == 0) {
+            return new NeighborLists(n, 0, 0, neighbors);
+        }
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            minX = Math.min(minX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxX = Math.max(maxX, x[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+
+        // ~2 cidades por célula
+        int side = Math.max(1, (int) Math.ceil(Math.sqrt(n / 2.0)));
+        double spanX = maxX - minX;
+        double spanY = maxY - minY;
+        double cellWidth = spanX > 0 ? spanX / side : (spanY > 0 ? spanY / side : 1.0);
+        double cellHeight = spanY > 0 ? spanY / side : cellWidth;
+        double cellSize = Math.min(cellWidth, cellHeight);
+
+        int[] cellOf = new int[n];
+        int[] cellStart = new int[side * side + 1];
+        for (int i = 0; i < n; i++) {
+            int cx = Math.min(side - 1, (int) ((x[i] - minX) / cellWidth));
+            int cy = Math.min(side - 1, (int) ((y[i] - minY) / cellHeight));
+            cellOf[i] = cy * side + cx;
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < side * side; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] cellItems = new int[n];
+        int[] fill = cellStart.clone();
+        for (int i = 0; i < n; i++) {
+            cellItems[fill[cellOf[i]]++] = i;
+        }
+
+        rows(n).forEach(i -> {
+            double[] best = new double[count];
+            int filled = 0;
+            int cx = cellOf[i] % side;
+            int cy = cellOf[i] / side;
+
+            for (int ring = 0; ring <= side; ring++) {
+                for (int gy = cy - ring; gy <= cy + ring; gy++) {
+                    if (gy < 0 || gy >= side) {
+                        continue;
+                    }
+                    // Só a borda do anel: interior já foi visitado
+                    int step = (gy == cy - ring || gy == cy + ring) ? 1 : Math.max(1, 2 * ring);
+                    for (int gx = cx - ring; gx <= cx + ring; gx += step) {
+                        if (gx < 0 || gx >= side) {
+                            continue;
+                        }
+                        int cell = gy * side + gx;
+                        for (int c = cellStart[cell]; c < cellStart[cell + 1]; c++) {
+                            int j = cellItems[c];
+                            if (j != i) {
+                                double d = DistanceCalculator.euclidean(x[i], y[i], x[j], y[j]);
+                                filled = insert(neighbors, i * count, best, filled, count, j, d);
+                            }
+                        }
+                    }
+                }
+                // Qualquer cidade fora deste anel está a pelo menos ring * cellSize
+                if (filled == count && best[count - 1] <= ring * cellSize) {
+                    break;
+                }
+            }
+        });
+
+        return new NeighborLists(n, count, count, neighbors);
+    }
+
+    /**
+     * k nearest cities on a sphere, for on-demand matrices with a spherical metric.
+     * Candidates come from a uniform 3D grid over the cities' unit vectors (chord length
+     * grows with the great-circle distance) and are then ordered by the matrix distance,
+     * which may round it. O(n·k) on typical instances; ties at the k-th place may resolve
+     * differently from a full scan.
+     *
+     * @param latitudes  latitude of each city in radians, indexed by ordinal
+     * @param longitudes longitude of each city in radians, indexed by ordinal
+     */
+    static NeighborLists fromSphere(double[] latitudes, double[] longitudes, DistanceMatrix matrix, int k) {
+        int n = latitudes.length;
+        int count = Math.max(0, Math.min(k, n - 1));
+        int[] neighbors = new int[n * count];
+        if (count == 0) {
+            return new NeighborLists(n, 0, 0, neighbors);
+        }
+
+        double[][] points = new double[3][n];
+        for (int i = 0; i < n; i++) {
+            double cosLatitude = Math.cos(latitudes[i]);
+            points[0][i] = cosLatitude * Math.cos(longitudes[i]);
+            points[1][i] = cosLatitude * Math.sin(longitudes[i]);
+            points[2][i] = Math.sin(latitudes[i]);
+        }
+
+        double[] min = new double[3];
+        double[] span = new double[3];
+        for (int axis = 0; axis < 3; axis++) {
+            double low = Double.POSITIVE_INFINITY;
+            double high = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                low = Math.min(low, points[axis][i]);
+                high = Math.max(high, points[axis][i]);
+            }
+            min[axis] = low;
+            span[axis] = high - low;
+        }
+
+        // As cidades ocupam uma superfície: ~2 por célula pela área das duas maiores extensões
+        double[] sorted = span.clone();
+        Arrays.sort(sorted);
+        double size = Math.sqrt(sorted[2] * sorted[1] * 2.0 / n);
+        if (!(size > 0)) {
+            size = sorted[2] > 0 ? sorted[2] / n : 1.0;
+        }
+        // Quase todas as células do cubo ficam vazias: as cidades ficam ordenadas por célula e só
+        // as linhas de células (y, z) são indexadas, no máximo ~4 por cidade
+        int[] side = new int[3];
+        while (true) {
+            for (int axis = 0; axis < 3; axis++) {
+                side[axis] = Math.max(1, (int) Math.ceil(span[axis] / size));
+            }
+            if ((long) side[1] * side[2] <= 4L * n + 64 && (long) side[0] * side[1] * side[2] <= Integer.MAX_VALUE) {
+                break;
+            }
+            size *= 1.25;
+        }
+        double cellSize = size;
+        int sideX = side[0];
+        int sideY = side[1];
+        int sideZ = side[2];
+
+        int[] cellOf = new int[n];
+        long[] cellItems = new long[n]; // célula << 32 | cidade
+        for (int i = 0; i < n; i++) {
+            int cx = Math.min(sideX - 1, (int) ((points[0][i] - min[0]) / cellSize));
+            int cy = Math.min(sideY - 1, (int) ((points[1][i] - min[1]) / cellSize));
+            int cz = Math.min(sideZ - 1, (int) ((points[2][i] - min[2]) / cellSize));
+            cellOf[i] = (cz * sideY + cy) * sideX + cx;
+            cellItems[i] = ((long) cellOf[i] << 32) | i;
+        }
+        Arrays.sort(cellItems);
+        int[] rowStart = new int[sideY * sideZ + 1];
+        for (long item : cellItems) {
+            rowStart[(int) (item >>> 32) / sideX + 1]++;
+        }
+        for (int r = 0; r + 1 < rowStart.length; r++) {
+            rowStart[r + 1] += rowStart[r];
+        }
+
+        int maxRing = Math.max(sideX, Math.max(sideY, sideZ));
+        rows(n).forEach(i -> {
+            double[] best = new double[count];
+            int filled = 0;
+            int cx = cellOf[i] % sideX;
+            int cy = cellOf[i] / sideX % sideY;
+            int cz = cellOf[i] / (sideX * sideY);
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                for (int gz = Math.max(0, cz - ring); gz <= Math.min(sideZ - 1, cz + ring); gz++) {
+                    for (int gy = Math.max(0, cy - ring); gy <= Math.min(sideY - 1, cy + ring); gy++) {
+                        // Só a casca do anel: interior já foi visitado
+                        int row = gz * sideY + gy;
+                        int from = rowStart[row];
+                        int to = rowStart[row + 1];
+                        if (from == to) {
+                            continue;
+                        }
+                        int left = row * sideX + cx - ring;
+                        int right = row * sideX + cx + ring;
+                        if (Math.abs(gz - cz) == ring || Math.abs(gy - cy) == ring) {
+                            filled = scanCells(cellItems, from, to, Math.max(row * sideX, left),
+                                Math.min(row * sideX + sideX - 1, right), points, i, neighbors, best, filled, count);
+                        } else {
+                            if (cx - ring >= 0) {
+                                filled = scanCells(cellItems, from, to, left, left, points, i, neighbors, best, filled, count);
+                            }
+                            if (cx + ring < sideX) {
+                                filled = scanCells(cellItems, from, to, right, right, points, i, neighbors, best, filled, count);
+                            }
+                        }
+                    }
+                }
+                // Qualquer cidade fora deste anel está a uma corda de pelo menos ring * cellSize
+                if (filled == count && best[count - 1] <= (ring * cellSize) * (ring * cellSize)) {
+                    break;
+                }
+            }
+
+            // Reordena os candidatos pela distância real (arredondamentos criam empates)
+            int offset = i * count;
+            for (int r = 0; r < count; r++) {
+                best[r] = matrix.distance(i, neighbors[offset + r]);
+            }
+            for (int r = 1; r < count; r++) {
+                double d = best[r];
+                int j = neighbors[offset + r];
+                int slot = r;
+                while (slot > 0 && (best[slot - 1] > d || (best[slot - 1] == d && neighbors[offset + slot - 1] > j))) {
+                    best[slot] = best[slot - 1];
+                    neighbors[offset + slot] = neighbors[offset + slot - 1];
+                    slot--;
+                }
+                best[slot] = d;
+                neighbors[offset + slot] = j;
+            }
+        });
+
+        return new NeighborLists(n, count, count, neighbors);
+    }
+
+    /**
+     * Offers the cities of cells firstCell..lastCell, found by binary search within
+     * cellItems[from, to), as candidates of city i ranked by squared chord length
+     *
+     * @return the new number of filled slots
+     */
+    private static int scanCells(long[] cellItems, int from, int to, int firstCell, int lastCell, double[][] points,
+                                 int i, int[] neighbors, double[] best, int filled, int count) {
+        int c = Arrays.binarySearch(cellItems, from, to, (long) firstCell << 32);
+        for (c = c < 0 ? -c - 1 : c; c < to && (cellItems[c] >>> 32) <= lastCell; c++) {
+            int j = (int) cellItems[c];
+            if (j != i) {
+                double dx = points[0][i] - points[0][j];
+                double dy = points[1][i] - points[1][j];
+                double dz = points[2][i] - points[2][j];
+                filled = insert(neighbors, i * count, best, filled, count, j, dx * dx + dy * dy + dz * dz);
+            }
+        }
+        return filled;
+    }
+
+    private static IntStream rows(int n) {
+        IntStream rows = IntStream.range(0, n);
+        return n >= PARALLEL_THRESHOLD ? rows.parallel() : rows;
+    }
+
+    /**
+     * Sorted insertion of candidate j into the row block starting at offset
+     *
+     * @return the new number of filled slots
+     */
+    private static int insert(int[] neighbors, int offset, double[] best, int filled, int count, int j, double d) {
+        if (count == 0) {
+            return 0;
+        }
+        if (filled == count && (d > best[count - 1] || (d == best[count - 1] && j > neighbors[offset + count - 1]))) {
+            return filled;
+        }
+
+        int slot = filled < count ? filled++ : count - 1;
+        while (slot > 0 && (best[slot - 1] > d || (best[slot - 1] == d && neighbors[offset + slot - 1] > j))) {
+            best[slot] = best[slot - 1];
+            neighbors[offset + slot] = neighbors[offset + slot - 1];
+            slot--;
+        }
+        best[slot] = d;
+        neighbors[offset + slot] = j;
+        return filled;
+    }
+
+    /**
+     * The first k neighbors of each list, sharing this instance's storage
+     */
+    public NeighborLists limit(int k) {
+        if (k >= this.k) {
+            return this;
+        }
+        return new NeighborLists(size, Math.max(0, k), stride, neighbors);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of neighbors per city
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * @return the rank-th nearest city of the given city (rank 0 is the nearest)
+     */
+    public int get(int city, int rank) {
+        return neighbors[city * stride + rank];
+    }
+}
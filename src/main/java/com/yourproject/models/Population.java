@@ -1,15 +1,23 @@
 package com.yourproject.models;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents a population of routes in the genetic algorithm
+ *
+ * Best/worst/average and the top routes come from {@link PopulationStats}, gathered in
+ * one pass over the cached distances; the routes are only sorted when a strategy
+ * needs ranks ({@link #sortByFitness()}).
  */
 public class Population {
     private final List<Route> routes;
     private boolean sorted;
+    // Distância de cada rota por índice; descartada sempre que a população muda
+    private volatile double[] distances;
+    private volatile PopulationStats stats;
 
     public Population(int size) {
         this.routes = new ArrayList<>(size);
@@ -24,6 +32,8 @@ public class Population {
     public void addRoute(Route route) {
         routes.add(route);
         sorted = false;
+        distances = null;
+        stats = null;
     }
 
     public Route getRoute(int index) {
@@ -33,6 +43,8 @@ public class Population {
     public void setRoute(int index, Route route) {
         routes.set(index, route);
         sorted = false;
+        distances = null;
+        stats = null;
     }
 
     public int size() {
@@ -43,28 +55,60 @@ public class Population {
         return Collections.unmodifiableList(routes);
     }
 
+    /**
+     * Total distance of each route, indexed like {@link #getRoute(int)}.
+     * The array is cached until the population changes and must not be modified.
+     */
+    public double[] getDistances() {
+        double[] cached = distances;
+        if (cached == null) {
+            cached = new double[routes.size()];
+            for (int i = 0; i < cached.length; i++) {
+                cached[i] = routes.get(i).getTotalDistance();
+            }
+            distances = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Statistics of the current routes, cached until the population changes
+     */
+    public PopulationStats getStats() {
+        PopulationStats cached = stats;
+        if (cached == null) {
+            cached = PopulationStats.of(getDistances());
+            stats = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Sorts the routes by distance. Only rank-based strategies need this.
+     */
     public void sortByFitness() {
         if (!sorted) {
             Collections.sort(routes);
             sorted = true;
+            distances = null;
+            stats = null;
         }
     }
 
     public Route getBestRoute() {
-        sortByFitness();
-        return routes.get(0);
+        return routes.get(sorted ? 0 : getStats().bestIndex());
     }
 
     public Route getWorstRoute() {
-        sortByFitness();
-        return routes.get(routes.size() - 1);
+        return routes.get(sorted ? routes.size() - 1 : getStats().worstIndex());
     }
 
     public double getAverageDistance() {
-        return routes.stream()
-                .mapToDouble(Route::getTotalDistance)
-                .average()
-                .orElse(0.0);
+        return getStats().averageDistance();
+    }
+
+    public double getDistanceVariance() {
+        return getStats().variance();
     }
 
     public double getBestDistance() {
@@ -75,9 +119,64 @@ public class Population {
         return getWorstRoute().getTotalDistance();
     }
 
+    /**
+     * The n shortest routes in ascending order of distance, without sorting the population
+     */
     public List<Route> getTopRoutes(int n) {
-        sortByFitness();
         int count = Math.min(n, routes.size());
-        return new ArrayList<>(routes.subList(0, count));
+        if (sorted) {
+            return new ArrayList<>(routes.subList(0, count));
+        }
+
+        int[] top = PopulationStats.topIndices(getDistances(), count);
+        List<Route> result = new ArrayList<>(top.length);
+        for (int index : top) {
+            result.add(routes.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Edge diversity of the population: the average share of a route's edges that the
+     * best route does not use (0 when every route is the best tour, near 1 for unrelated
+     * tours). Edges are undirected on symmetric graphs. Only sampleSize routes, spread
+     * evenly over the population, are compared, so it costs O(sampleSize * cities).
+     *
+     * @return the diversity, or NaN for an empty population
+     */
+    public double getEdgeDiversity(int sampleSize) {
+        int count = Math.min(sampleSize, routes.size());
+        if (count <= 0) {
+            return Double.NaN;
+        }
+
+        Route best = getBestRoute();
+        int[] next = new int[best.getGraph().size()];
+        Arrays.fill(next, -1);
+        int[] bestTour = best.getTour();
+        int previous = best.getStartIndex();
+        for (int city : bestTour) {
+            next[previous] = city;
+            previous = city;
+        }
+        next[previous] = best.getStartIndex();
+        boolean symmetric = best.getGraph().getDistances().isSymmetric();
+
+        double total = 0.0;
+        for (int i = 0; i < count; i++) {
+            Route route = routes.get((int) ((long) i * routes.size() / count));
+            int[] tour = route.getTour();
+            int from = route.getStartIndex();
+            int foreign = 0;
+            for (int k = 0; k <= tour.length; k++) {
+                int to = k < tour.length ? tour[k] : route.getStartIndex();
+                if (next[from] != to && !(symmetric && next[to] == from)) {
+                    foreign++;
+                }
+                from = to;
+            }
+            total += (double) foreign / (tour.length + 1);
+        }
+        return total / count;
     }
 }
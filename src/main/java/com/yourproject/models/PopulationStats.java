@@ -0,0 +1,116 @@
+package com.yourproject.models;
+
+/**
+ * Distance statistics of a population, gathered in a single pass over the route distances.
+ *
+ * Ties resolve like a stable sort by distance: the best route is the first with the
+ * minimum distance and the worst the last with the maximum.
+ */
+public record PopulationStats(
+    int size,
+    int bestIndex,
+    int worstIndex,
+    double bestDistance,
+    double worstDistance,
+    double averageDistance,
+    double variance
+) {
+
+    /**
+     * @param distances distance of each route, by population index
+     */
+    public static PopulationStats of(double[] distances) {
+        int n = distances.length;
+        if (n == 0) {
+            return new PopulationStats(0, -1, -1, 0.0, 0.0, 0.0, 0.0);
+        }
+
+        int best = 0;
+        int worst = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+
+        // Welford: média e variância numa única passada, sem perda de precisão em populações grandes
+        for (int i = 0; i < n; i++) {
+            double d = distances[i];
+            if (d < distances[best]) {
+                best = i;
+            }
+            if (d >= distances[worst]) {
+                worst = i;
+            }
+            double delta = d - mean;
+            mean += delta / (i + 1);
+            m2 += delta * (d - mean);
+        }
+
+        return new PopulationStats(n, best, worst, distances[best], distances[worst], mean, m2 / n);
+    }
+
+    /**
+     * Indices of the k shortest routes in ascending order of distance (ties by index),
+     * selected with a bounded max-heap in O(n log k) without sorting the population.
+     */
+    public static int[] topIndices(double[] distances, int k) {
+        int count = Math.max(0, Math.min(k, distances.length));
+        int[] heap = new int[count];
+        if (count == 0) {
+            return heap;
+        }
+
+        // heap[0] é o pior dos k melhores vistos até agora
+        for (int i = 0; i < count; i++) {
+            heap[i] = i;
+            siftUp(heap, i, distances);
+        }
+        for (int i = count; i < distances.length; i++) {
+            if (before(i, heap[0], distances)) {
+                heap[0] = i;
+                siftDown(heap, 0, count, distances);
+            }
+        }
+
+        // Esvazia o heap do fim para o início: resultado em ordem crescente
+        for (int end = count - 1; end > 0; end--) {
+            int top = heap[0];
+            heap[0] = heap[end];
+            heap[end] = top;
+            siftDown(heap, 0, end, distances);
+        }
+        return heap;
+    }
+
+    private static boolean before(int a, int b, double[] distances) {
+        return distances[a] < distances[b] || (distances[a] == distances[b] && a < b);
+    }
+
+    private static void siftUp(int[] heap, int index, double[] distances) {
+        int value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(heap[parent], value, distances)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void siftDown(int[] heap, int index, int size, double[] distances) {
+        int value = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && before(heap[child], heap[child + 1], distances)) {
+                child++;
+            }
+            if (!before(value, heap[child], distances)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
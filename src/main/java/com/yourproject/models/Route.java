@@ -1,97 +1,267 @@
 package com.yourproject.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents a route (individual) in the genetic algorithm
  * A route is a sequence of cities forming a complete tour
+ *
+ * The tour is stored as an int[] of city ordinals from the shared {@link CityGraph}
+ * (the start city is implicit and not part of the array). City-based accessors are
+ * views over this array.
  */
 public class Route implements Comparable<Route> {
-    private final List<City> cities;
-    private final City startCity;
-    private Double totalDistance;
-    private Double fitness;
+    private final CityGraph graph;
+    private final int start;
+    private final int[] tour;
+    private double totalDistance;
+    private boolean evaluated;
+
+    /**
+     * Creates a route that takes ownership of the given tour array
+     */
+    public Route(CityGraph graph, int start, int[] tour) {
+        this.graph = graph;
+        this.start = start;
+        this.tour = tour;
+        this.evaluated = false;
+    }
 
-    public Route(City startCity, List<City> cities) {
-        this.startCity = startCity;
-        this.cities = new ArrayList<>(cities);
-        this.totalDistance = null;
-        this.fitness = null;
+    public Route(CityGraph graph, City startCity, List<City> cities) {
+        this(graph, graph.indexOf(startCity), toOrdinals(graph, cities));
     }
 
     public Route(Route other) {
-        this.startCity = other.startCity;
-        this.cities = new ArrayList<>(other.cities);
+        this.graph = other.graph;
+        this.start = other.start;
+        this.tour = other.tour.clone();
         this.totalDistance = other.totalDistance;
-        this.fitness = other.fitness;
+        this.evaluated = other.evaluated;
+    }
+
+    private static int[] toOrdinals(CityGraph graph, List<City> cities) {
+        int[] ordinals = new int[cities.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = graph.indexOf(cities.get(i));
+        }
+        return ordinals;
     }
 
     public List<City> getCities() {
-        return Collections.unmodifiableList(cities);
+        return new AbstractList<>() {
+            @Override
+            public City get(int index) {
+                return graph.getCity(tour[index]);
+            }
+
+            @Override
+            public int size() {
+                return tour.length;
+            }
+        };
     }
 
     public City getStartCity() {
-        return startCity;
+        return graph.getCity(start);
+    }
+
+    @JsonIgnore
+    public CityGraph getGraph() {
+        return graph;
+    }
+
+    @JsonIgnore
+    public int getStartIndex() {
+        return start;
+    }
+
+    /**
+     * Backing ordinal array, exposed for operators. Callers that write to it
+     * must call {@link #invalidate()} afterwards.
+     */
+    @JsonIgnore
+    public int[] getTour() {
+        return tour;
     }
 
     public City getCity(int index) {
-        return cities.get(index);
+        return graph.getCity(tour[index]);
+    }
+
+    public int getCityIndex(int index) {
+        return tour[index];
     }
 
     public void setCity(int index, City city) {
-        cities.set(index, city);
-        // Invalidate cached values
-        totalDistance = null;
-        fitness = null;
+        setCityIndex(index, graph.indexOf(city));
+    }
+
+    public void setCityIndex(int index, int ordinal) {
+        tour[index] = ordinal;
+        invalidate();
+    }
+
+    public void invalidate() {
+        evaluated = false;
+    }
+
+    /**
+     * Swaps the cities at two positions. A cached distance is updated from the
+     * (at most 4) edges that change instead of being recomputed.
+     */
+    public void swap(int i, int j) {
+        if (i == j) {
+            return;
+        }
+        if (i > j) {
+            int temp = i;
+            i = j;
+            j = temp;
+        }
+
+        if (evaluated) {
+            // Arestas dirigidas: vale também para matrizes assimétricas
+            int a = previous(i);
+            int x = tour[i];
+            int y = tour[j];
+            int b = next(j);
+            double delta;
+            if (j == i + 1) {
+                delta = graph.distance(a, y) + graph.distance(y, x) + graph.distance(x, b)
+                    - graph.distance(a, x) - graph.distance(x, y) - graph.distance(y, b);
+            } else {
+                int xNext = tour[i + 1];
+                int yPrev = tour[j - 1];
+                delta = graph.distance(a, y) + graph.distance(y, xNext) + graph.distance(yPrev, x) + graph.distance(x, b)
+                    - graph.distance(a, x) - graph.distance(x, xNext) - graph.distance(yPrev, y) - graph.distance(y, b);
+            }
+            totalDistance += delta;
+        }
+
+        int temp = tour[i];
+        tour[i] = tour[j];
+        tour[j] = temp;
+    }
+
+    /**
+     * Reverses the positions from..to (inclusive). On a symmetric graph a cached
+     * distance is updated from the 2 boundary edges; otherwise the reversed
+     * segment's edges are re-summed.
+     */
+    public void reverse(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+
+        if (evaluated && graph.getDistances().isSymmetric()) {
+            int a = previous(from);
+            int b = next(to);
+            totalDistance += graph.distance(a, tour[to]) + graph.distance(tour[from], b)
+                - graph.distance(a, tour[from]) - graph.distance(tour[to], b);
+            reverseTour(from, to);
+        } else if (evaluated) {
+            double before = segmentDistance(from, to);
+            reverseTour(from, to);
+            totalDistance += segmentDistance(from, to) - before;
+        } else {
+            reverseTour(from, to);
+        }
+    }
+
+    /**
+     * Overwrites the positions from..from+values.length-1 with the given ordinals,
+     * updating a cached distance from the edges of that segment only.
+     */
+    public void setSegment(int from, int[] values) {
+        if (values.length == 0) {
+            return;
+        }
+
+        int to = from + values.length - 1;
+        double before = evaluated ? segmentDistance(from, to) : 0.0;
+        System.arraycopy(values, 0, tour, from, values.length);
+        if (evaluated) {
+            totalDistance += segmentDistance(from, to) - before;
+        }
+    }
+
+    private void reverseTour(int from, int to) {
+        while (from < to) {
+            int temp = tour[from];
+            tour[from++] = tour[to];
+            tour[to--] = temp;
+        }
+    }
+
+    /**
+     * Length of the path from the city before position from to the city after position to
+     */
+    private double segmentDistance(int from, int to) {
+        double distance = 0.0;
+        int prev = previous(from);
+        for (int i = from; i <= to; i++) {
+            distance += graph.distance(prev, tour[i]);
+            prev = tour[i];
+        }
+        return distance + graph.distance(prev, next(to));
+    }
+
+    private int previous(int position) {
+        return position == 0 ? start : tour[position - 1];
+    }
+
+    private int next(int position) {
+        return position == tour.length - 1 ? start : tour[position + 1];
     }
 
     public int size() {
-        return cities.size();
+        return tour.length;
     }
 
     public double getTotalDistance() {
-        if (totalDistance == null) {
+        if (!evaluated) {
             totalDistance = calculateTotalDistance();
+            evaluated = true;
         }
         return totalDistance;
     }
 
     public double getFitness() {
-        if (fitness == null) {
-            double distance = getTotalDistance();
-            if (distance == 0) {
-                fitness = 0.0; // Rota inválida
-            } else if (Double.isInfinite(distance) || Double.isNaN(distance)) {
-                fitness = 0.0; // Rota impossível
-            } else {
-                fitness = 1.0 / distance;
-            }
+        double distance = getTotalDistance();
+        if (distance == 0) {
+            return 0.0; // Rota inválida
+        } else if (Double.isInfinite(distance) || Double.isNaN(distance)) {
+            return 0.0; // Rota impossível
         }
-        return fitness;
+        return 1.0 / distance;
     }
 
     private double calculateTotalDistance() {
         double distance = 0.0;
-        
-        distance += getDistance(startCity, cities.get(0));
-        
-        for (int i = 0; i < cities.size() - 1; i++) {
-            distance += getDistance(cities.get(i), cities.get(i + 1));
-        }
-        
-        distance += getDistance(cities.get(cities.size() - 1), startCity);
-        
-        return distance;
-    }
+        int previous = start;
+
+        for (int ordinal : tour) {
+            distance += graph.distance(previous, ordinal);
+            previous = ordinal;
+        }
+
+        distance += graph.distance(previous, start);
 
-    private double getDistance(City city1, City city2) {
-        return com.yourproject.utils.DistanceCalculator.getDistance(city1, city2);
+        return distance;
     }
 
     public boolean containsCity(City city) {
-        return cities.contains(city);
+        int ordinal = graph.indexOf(city);
+        for (int value : tour) {
+            if (value == ordinal) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -102,22 +272,22 @@ public class Route implements Comparable<Route> {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append(startCity.getName());
-        for (City city : cities) {
-            sb.append(" -> ").append(city.getName());
+        sb.append(getStartCity().getName());
+        for (int ordinal : tour) {
+            sb.append(" -> ").append(graph.getCity(ordinal).getName());
         }
-        sb.append(" -> ").append(startCity.getName());
+        sb.append(" -> ").append(getStartCity().getName());
         sb.append(" (Distance: ").append(String.format("%.2f", getTotalDistance())).append(")");
         return sb.toString();
     }
 
     public List<String> getCityNames() {
-        List<String> names = new ArrayList<>();
-        names.add(startCity.getName());
-        for (City city : cities) {
-            names.add(city.getName());
+        List<String> names = new ArrayList<>(tour.length + 2);
+        names.add(getStartCity().getName());
+        for (int ordinal : tour) {
+            names.add(graph.getCity(ordinal).getName());
         }
-        names.add(startCity.getName());
+        names.add(getStartCity().getName());
         return names;
     }
 }
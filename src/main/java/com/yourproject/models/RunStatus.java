@@ -0,0 +1,17 @@
+package com.yourproject.models;
+
+/**
+ * Lifecycle of a GA run
+ */
+public enum RunStatus {
+    CREATED,
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == CANCELLED || this == FAILED;
+    }
+}
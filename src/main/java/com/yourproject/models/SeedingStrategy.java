@@ -0,0 +1,17 @@
+package com.yourproject.models;
+
+/**
+ * Heuristic tours injected into the initial population (a seedingRate % of it)
+ */
+public enum SeedingStrategy {
+    /** Only random permutations */
+    NONE,
+    /** Nearest neighbor from a random first city per individual */
+    NEAREST_NEIGHBOR,
+    /** Greedy edge matching over the neighbor lists (nearest neighbor on directed graphs) */
+    GREEDY_EDGE,
+    /** Order of the cities along a Hilbert curve over their coordinates */
+    SPACE_FILLING_CURVE,
+    /** Round-robin of the three heuristics */
+    MIXED
+}
@@ -0,0 +1,19 @@
+package com.yourproject.models;
+
+/**
+ * Why a GA run stopped evolving
+ */
+public enum StopReason {
+    /** Ran all maxGenerations */
+    MAX_GENERATIONS,
+    /** Best distance did not improve for stagnationGenerations generations */
+    STAGNATION,
+    /** Best distance reached targetDistance */
+    TARGET_DISTANCE,
+    /** Wall-clock time exceeded timeBudgetMs */
+    TIME_BUDGET,
+    /** Routes evaluated reached maxEvaluations */
+    MAX_EVALUATIONS,
+    /** Cancellation was requested */
+    CANCELLED
+}
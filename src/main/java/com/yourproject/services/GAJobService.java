@@ -0,0 +1,182 @@
+package com.yourproject.services;
+
+import com.yourproject.errors.TooManyRequestsException;
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GAExecutionResult;
+import com.yourproject.models.GenerationResult;
+import com.yourproject.models.JobStatus;
+import com.yourproject.models.RunStatus;
+import com.yourproject.services.session.RunListener;
+import com.yourproject.services.session.RunSession;
+import com.yourproject.services.session.RunSessionRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Execução assíncrona do AG
+ * 
+ * Os jobs rodam em um pool limitado de workers com fila limitada; o ID do job é o
+ * ID da execução (runId), então os endpoints de leitura de /tsp também funcionam
+ * para jobs.
+ */
+@Service
+public class GAJobService extends BaseService {
+
+    private final GeneticAlgorithmService gaService;
+    private final RunSessionRegistry sessions;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Future<?>> futures = new ConcurrentHashMap<>();
+
+    public GAJobService(
+            GeneticAlgorithmService gaService,
+            RunSessionRegistry sessions,
+            @Value("${app.ga.jobs.workers:2}") int workers,
+            @Value("${app.ga.jobs.queue-capacity:32}") int queueCapacity) {
+        this.gaService = gaService;
+        this.sessions = sessions;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            workers, workers,
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            task -> {
+                Thread thread = new Thread(task, "ga-job-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    public RunSession submit(GAConfig config) {
+        return enqueue(gaService.createRun(config));
+    }
+
+    /**
+     * Submits a run whose generations go only to the listener: no history is kept,
+     * so memory stays constant regardless of the number of generations
+     */
+    public RunSession submitStreaming(GAConfig config, RunListener listener) {
+        RunSession session = gaService.createRun(config);
+        session.disableHistory();
+        session.addListener(listener);
+        return enqueue(session);
+    }
+
+    /**
+     * Attaches a listener to an existing job; returns false if the job already finished
+     */
+    public boolean subscribe(String jobId, RunListener listener) {
+        RunSession session = sessions.get(jobId);
+        session.addListener(listener);
+        if (session.getStatus().isFinished() || session.getStatus() == RunStatus.CREATED) {
+            session.removeListener(listener);
+            return false;
+        }
+        return true;
+    }
+
+    private RunSession enqueue(RunSession session) {
+        session.setStatus(RunStatus.QUEUED);
+
+        try {
+            futures.put(session.getId(), executor.submit(() -> execute(session)));
+        } catch (RejectedExecutionException e) {
+            sessions.remove(session.getId());
+            throw new TooManyRequestsException("Fila de jobs cheia, tente novamente mais tarde");
+        }
+
+        logger.info("Job {} enfileirado ({} na fila)", session.getId(), executor.getQueue().size());
+        return session;
+    }
+
+    // Pacote: os testes simulam o worker pegando um job já cancelado
+    void execute(RunSession session) {
+        try {
+            if (session.isCancelRequested()) {
+                // Cancelado na fila mas o worker pegou a tarefa antes de executor.remove
+                session.setStatus(RunStatus.CANCELLED);
+                session.publishFinished();
+                return;
+            }
+            sessions.executeWhenAvailable(session, () -> gaService.runGeneticAlgorithm(session));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            session.setStatus(RunStatus.CANCELLED);
+        } catch (RuntimeException e) {
+            // Status FAILED já registrado pela execução
+            logger.warn("Job {} falhou: {}", session.getId(), e.getMessage());
+        } finally {
+            futures.remove(session.getId());
+        }
+    }
+
+    public RunSession getSession(String jobId) {
+        return sessions.get(jobId);
+    }
+
+    public JobStatus getStatus(String jobId) {
+        RunSession session = sessions.get(jobId);
+        GenerationResult latest = session.getLatestResult();
+
+        return new JobStatus(
+            session.getId(),
+            session.getStatus(),
+            latest != null ? latest.getGeneration() : 0,
+            session.getConfig().getMaxGenerations(),
+            latest != null ? latest.getBestDistance() : null,
+            session.getElapsedMs(),
+            session.getError()
+        );
+    }
+
+    /**
+     * @return most recent generation of the job, or null before the first one
+     */
+    public GenerationResult getCurrentBest(String jobId) {
+        return sessions.get(jobId).getLatestResult();
+    }
+
+    public GAExecutionResult getResult(String jobId) {
+        RunSession session = sessions.get(jobId);
+        if (!session.getStatus().isFinished() || session.getResult() == null) {
+            throw new IllegalStateException("Job ainda não terminou: " + session.getStatus());
+        }
+        return session.getResult();
+    }
+
+    public JobStatus cancel(String jobId) {
+        RunSession session = sessions.get(jobId);
+        session.requestCancel();
+
+        // Ainda na fila: remove sem executar; em execução: para após a geração atual
+        Future<?> future = futures.get(jobId);
+        if (future instanceof Runnable task && executor.remove(task)) {
+            futures.remove(jobId);
+            session.setStatus(RunStatus.CANCELLED);
+            session.publishFinished();
+        }
+
+        logger.info("Cancelamento solicitado para o job {}", jobId);
+        return getStatus(jobId);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
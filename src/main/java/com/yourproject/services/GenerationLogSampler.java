@@ -0,0 +1,43 @@
+package com.yourproject.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which generations get a log line: every N-th generation, and at most one
+ * line per minimum interval across all runs (the console is shared, so the rate
+ * limit is global)
+ */
+@Component
+public class GenerationLogSampler {
+
+    private final int every;
+    private final long minIntervalNanos;
+    private final AtomicLong lastLogged;
+
+    public GenerationLogSampler(
+            @Value("${app.ga.logging.generation-every:10}") int every,
+            @Value("${app.ga.logging.generation-min-interval:1s}") Duration minInterval) {
+        this.every = every;
+        this.minIntervalNanos = minInterval.toNanos();
+        this.lastLogged = new AtomicLong(System.nanoTime() - minIntervalNanos);
+    }
+
+    /**
+     * @return true if this generation should be logged (claims the current interval)
+     */
+    public boolean shouldLog(int generation) {
+        if (every <= 0 || generation % every != 0) {
+            return false;
+        }
+        if (minIntervalNanos <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        long last = lastLogged.get();
+        return now - last >= minIntervalNanos && lastLogged.compareAndSet(last, now);
+    }
+}
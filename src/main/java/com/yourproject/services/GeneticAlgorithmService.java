@@ -1,80 +1,208 @@
 package com.yourproject.services;
 
 import com.yourproject.models.*;
+import com.yourproject.services.cache.ResultCache;
+import com.yourproject.services.island.InProcessMigrationTransport;
+import com.yourproject.services.island.IslandModel;
+import com.yourproject.services.island.MigrationNode;
+import com.yourproject.services.island.MigrationTransport;
+import com.yourproject.services.island.SocketMigrationTransport;
+import com.yourproject.services.metrics.GAMetrics;
+import com.yourproject.services.operators.FitnessEvaluator;
+import com.yourproject.services.operators.LocalSearch;
 import com.yourproject.services.operators.MutationOperator;
 import com.yourproject.services.operators.PMXCrossover;
+import com.yourproject.services.operators.SeedingOperator;
 import com.yourproject.services.operators.SelectionOperator;
+import com.yourproject.services.session.RunSession;
+import com.yourproject.services.session.RunSessionRegistry;
+import com.yourproject.services.tsplib.TsplibParser;
+import com.yourproject.utils.ParallelUtil;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
 
 /**
  * Serviço de Algoritmo Genético para resolver o TSP
+ * 
+ * O estado de cada execução (população, histórico, grafo, RNG) fica em uma
+ * {@link RunSession}; o serviço em si só guarda o grafo padrão para novas execuções.
  */
 @Service
 public class GeneticAlgorithmService extends BaseService {
 
-    private final MutationOperator mutationOperator;
-    private final SelectionOperator selectionOperator;
-    private final Random random;
+    // Indivíduos por bloco de reprodução/inicialização; fixo para que o resultado não dependa do nº de threads
+    private static final int BREEDING_CHUNK_SIZE = 64;
+
+    // Rotas comparadas com a melhor na métrica de diversidade; amostrar mantém o custo em O(rotas * cidades)
+    private static final int DIVERSITY_SAMPLE_SIZE = 32;
 
-    // Graph data - will be loaded from configuration
-    private Map<String, City> cities;
-    private GAConfig currentConfig;
-    private Population currentPopulation;
-    private List<GenerationResult> history;
+    private static final SeedingStrategy[] MIXED_SEEDING = {
+        SeedingStrategy.NEAREST_NEIGHBOR, SeedingStrategy.GREEDY_EDGE, SeedingStrategy.SPACE_FILLING_CURVE
+    };
 
-    public GeneticAlgorithmService() {
+    private final MutationOperator mutationOperator;
+    private final SelectionOperator selectionOperator;
+    private final FitnessEvaluator fitnessEvaluator;
+    private final LocalSearch localSearch;
+    private final SeedingOperator seedingOperator;
+    private final ForkJoinPool pool;
+    private final RunSessionRegistry sessions;
+    private final MigrationNode migrationNode;
+    private final ResultCache resultCache;
+    private final GAMetrics metrics;
+    private final GenerationLogSampler generationLog;
+
+    // Grafo usado pelas novas execuções; cada sessão guarda o seu
+    private volatile CityGraph graph;
+
+    public GeneticAlgorithmService(ForkJoinPool gaForkJoinPool, RunSessionRegistry sessions,
+                                   MigrationNode migrationNode, ResultCache resultCache, GAMetrics metrics,
+                                   GenerationLogSampler generationLog) {
         this.mutationOperator = new MutationOperator();
         this.selectionOperator = new SelectionOperator();
-        this.random = new Random();
-        this.history = new ArrayList<>();
+        this.fitnessEvaluator = new FitnessEvaluator(gaForkJoinPool);
+        this.localSearch = new LocalSearch();
+        this.seedingOperator = new SeedingOperator();
+        this.pool = gaForkJoinPool;
+        this.sessions = sessions;
+        this.migrationNode = migrationNode;
+        this.resultCache = resultCache;
+        this.metrics = metrics;
+        this.generationLog = generationLog;
         initializeGraph();
     }
 
     private void initializeGraph() {
-        cities = new HashMap<>();
-        
-        cities.put("F", new City("F", "F", 100, 300));
-        cities.put("G", new City("G", "G", 400, 100));
-        cities.put("H", new City("H", "H", 350, 250));
-        cities.put("E", new City("E", "E", 300, 200));
-        cities.put("K", new City("K", "K", 250, 150));
-        cities.put("N", new City("N", "N", 150, 200));
-        cities.put("C", new City("C", "C", 200, 250));
-        cities.put("L", new City("L", "L", 150, 300));
-        
-        logger.info("Grafo inicializado com {} cidades", cities.size());
-    }
-
-    public Population initializePopulation(GAConfig config) {
+        List<City> cities = List.of(
+            new City("F", "F", 100, 300),
+            new City("G", "G", 400, 100),
+            new City("H", "H", 350, 250),
+            new City("E", "E", 300, 200),
+            new City("K", "K", 250, 150),
+            new City("N", "N", 150, 200),
+            new City("C", "C", 200, 250),
+            new City("L", "L", 150, 300)
+        );
+
+        // Arestas do grafo real (não-direcionado): pares sem aresta são rotas impossíveis
+        List<Edge> edges = List.of(
+            new Edge("F", "N", 30),
+            new Edge("F", "C", 20),
+            new Edge("F", "L", 10),
+            new Edge("F", "G", 55),
+
+            new Edge("N", "C", 47),
+            new Edge("N", "K", 60),
+
+            new Edge("C", "K", 70),
+            new Edge("C", "E", 10),
+            new Edge("C", "H", 30),
+            new Edge("C", "L", 10),
+
+            new Edge("K", "E", 10),
+            new Edge("K", "G", 90),
+            new Edge("K", "H", 73),
+
+            new Edge("E", "H", 60),
+            new Edge("E", "G", 40),
+            new Edge("E", "L", 5),
+
+            new Edge("H", "G", 80),
+            new Edge("H", "L", 40)
+        );
+
+        graph = CityGraph.withEdges(cities, edges, false);
+        logger.info("Grafo inicializado com {} cidades", graph.size());
+    }
+
+    /**
+     * Cria uma nova execução com o grafo atual e inicializa sua população
+     */
+    public RunSession initializePopulation(GAConfig config) {
+        RunSession session = sessions.create(graph, config);
         try {
-            this.currentConfig = config;
-            this.history.clear();
+            sessions.execute(session, () -> initializePopulation(session));
+        } catch (RuntimeException e) {
+            sessions.remove(session.getId());
+            throw e;
+        }
+        return session;
+    }
+
+    private Population initializePopulation(RunSession session) {
+        try {
+            GAConfig config = session.getConfig();
+            CityGraph graph = session.getGraph();
             
-            logger.info("Inicializando população: {}", config);
+            logger.info("Inicializando população [{}]: {}", session.getId(), config);
             
-            City startCity = cities.get(config.getStartCityId());
-            if (startCity == null) {
+            int start = graph.indexOf(config.getStartCityId());
+            if (start < 0) {
                 throw new IllegalArgumentException("Cidade inicial inválida: " + config.getStartCityId());
             }
 
-            List<City> availableCities = new ArrayList<>(cities.values());
-            availableCities.remove(startCity);
+            int[] availableCities = new int[graph.size() - 1];
+            for (int ordinal = 0, i = 0; ordinal < graph.size(); ordinal++) {
+                if (ordinal != start) {
+                    availableCities[i++] = ordinal;
+                }
+            }
+
+            int populationSize = config.getPopulationSize();
+            int seeded = (int) Math.round(populationSize * config.getSeedingRate() / 100.0);
+            if (config.getSeedingStrategy() == SeedingStrategy.NONE) {
+                seeded = 0;
+            }
 
-            Population population = new Population(config.getPopulationSize());
+            // Tours-base determinísticos calculados uma vez; as demais cópias recebem um double-bridge
+            int[] greedyTour = seeded > 0 && uses(config, SeedingStrategy.GREEDY_EDGE)
+                ? seedingOperator.toTour(seedingOperator.greedyEdge(graph), start) : null;
+            int[] curveTour = seeded > 0 && uses(config, SeedingStrategy.SPACE_FILLING_CURVE)
+                ? seedingOperator.toTour(seedingOperator.spaceFillingCurve(graph), start) : null;
+
+            Route[] slots = new Route[populationSize];
+            int chunks = (populationSize + BREEDING_CHUNK_SIZE - 1) / BREEDING_CHUNK_SIZE;
+            SplittableRandom[] chunkRandoms = new SplittableRandom[chunks];
+            for (int c = 0; c < chunks; c++) {
+                chunkRandoms[c] = session.getRandom().split();
+            }
 
-            for (int i = 0; i < config.getPopulationSize(); i++) {
-                List<City> routeCities = new ArrayList<>(availableCities);
-                Collections.shuffle(routeCities, random);
-                Route route = new Route(startCity, routeCities);
-                population.addRoute(route);
+            int seedCount = seeded;
+            ParallelUtil.forEachRange(pool, parallelism(config), chunks, (fromChunk, toChunk) -> {
+                for (int c = fromChunk; c < toChunk; c++) {
+                    int from = c * BREEDING_CHUNK_SIZE;
+                    int to = Math.min(from + BREEDING_CHUNK_SIZE, populationSize);
+                    for (int i = from; i < to; i++) {
+                        int[] tour = i < seedCount
+                            ? seedTour(config, graph, start, i, greedyTour, curveTour, chunkRandoms[c])
+                            : shuffled(availableCities, chunkRandoms[c]);
+                        slots[i] = new Route(graph, start, tour);
+                    }
+                }
+            });
+
+            // Melhor tour já conhecido para este grafo/cidade inicial ocupa o último slot
+            int[] warmTour = config.getWarmStart() ? resultCache.bestTour(graph, start) : null;
+            if (warmTour != null) {
+                slots[populationSize - 1] = new Route(graph, start, warmTour);
             }
 
-            this.currentPopulation = population;
+            Population population = new Population(Arrays.asList(slots));
+
+            long evaluationStart = System.nanoTime();
+            fitnessEvaluator.evaluate(population.getRoutes(), parallelism(config));
+            metrics.lap(GAMetrics.Operator.EVALUATION, evaluationStart);
+            countEvaluations(session, population.size());
+
+            session.setPopulation(population);
             
-            logger.info("População inicial: {} indivíduos, melhor distância: {}", 
-                       population.size(), population.getBestDistance());
+            logger.info("População inicial: {} indivíduos ({} semeados{}), melhor distância: {}", 
+                       population.size(), seeded, warmTour != null ? ", 1 do cache" : "", population.getBestDistance());
             
             return population;
         } catch (Exception e) {
@@ -83,148 +211,521 @@ public class GeneticAlgorithmService extends BaseService {
         }
     }
 
-    public GenerationResult evolveGeneration(int generationNumber) {
-        if (currentPopulation == null || currentConfig == null) {
+    private int parallelism(GAConfig config) {
+        return config.getParallelism() != null
+            ? config.getParallelism()
+            : fitnessEvaluator.getMaxParallelism();
+    }
+
+    private int[] shuffled(int[] cities, RandomGenerator random) {
+        int[] tour = cities.clone();
+        for (int i = tour.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = tour[i];
+            tour[i] = tour[j];
+            tour[j] = temp;
+        }
+        return tour;
+    }
+
+    private static boolean uses(GAConfig config, SeedingStrategy strategy) {
+        return config.getSeedingStrategy() == strategy || config.getSeedingStrategy() == SeedingStrategy.MIXED;
+    }
+
+    /**
+     * Tour heurístico do i-ésimo indivíduo semeado (MIXED alterna as três heurísticas)
+     */
+    private int[] seedTour(GAConfig config, CityGraph graph, int start, int index,
+                           int[] greedyTour, int[] curveTour, RandomGenerator random) {
+        SeedingStrategy strategy = config.getSeedingStrategy();
+        int ordinal = index;
+        if (strategy == SeedingStrategy.MIXED) {
+            strategy = MIXED_SEEDING[index % MIXED_SEEDING.length];
+            ordinal = index / MIXED_SEEDING.length;
+        }
+
+        return switch (strategy) {
+            case GREEDY_EDGE -> ordinal == 0 ? greedyTour.clone() : seedingOperator.doubleBridge(greedyTour, random);
+            case SPACE_FILLING_CURVE -> ordinal == 0 ? curveTour.clone() : seedingOperator.doubleBridge(curveTour, random);
+            default -> seedingOperator.toTour(seedingOperator.nearestNeighbor(graph, random.nextInt(graph.size())), start);
+        };
+    }
+
+    /**
+     * Evolui uma geração de uma execução existente
+     */
+    public GenerationResult evolveGeneration(String runId, int generationNumber) {
+        RunSession session = sessions.get(runId);
+        return sessions.execute(session, () -> evolveGeneration(session, generationNumber));
+    }
+
+    private GenerationResult evolveGeneration(RunSession session, int generationNumber) {
+        GenerationResult result;
+        synchronized (session) {
+            result = breedGeneration(session, generationNumber);
+        }
+        // Fora do lock: ouvintes (SSE) podem bloquear em I/O sem travar leituras da sessão
+        session.publish(result);
+        return result;
+    }
+
+    private GenerationResult breedGeneration(RunSession session, int generationNumber) {
+        Population currentPopulation = session.getPopulation();
+        GAConfig config = session.getConfig();
+        if (currentPopulation == null) {
             throw new IllegalStateException("População não inicializada");
         }
 
-        Population newPopulation = new Population(currentConfig.getPopulationSize());
+        Population newPopulation = nextGeneration(
+            session, currentPopulation, session.getRandom(), parallelism(config), List.of());
+
+        session.setPopulation(newPopulation);
+
+        GenerationResult result = summarize(generationNumber, newPopulation);
+        record(session, result);
+        return result;
+    }
+
+    private void record(RunSession session, GenerationResult result) {
+        session.addHistory(result);
+        session.setLatestResult(result);
+        metrics.generationRecorded();
+
+        // Amostrado: formatar e escrever toda geração vira o gargalo em execuções rápidas
+        if (logger.isInfoEnabled() && generationLog.shouldLog(result.getGeneration())) {
+            logger.info("Geração {}: Melhor={}, Média={}, Pior={}",
+                       result.getGeneration(),
+                       String.format("%.2f", result.getBestDistance()),
+                       String.format("%.2f", result.getAverageDistance()),
+                       String.format("%.2f", result.getWorstDistance()));
+        }
+    }
+
+    /**
+     * Nova geração (já avaliada) do mesmo tamanho de parents: elites, imigrantes do
+     * modelo de ilhas (se houver) e descendentes nos demais slots
+     */
+    private Population nextGeneration(RunSession session, Population parents, SplittableRandom random,
+                                      int parallelism, List<Route> immigrants) {
+        long startNanos = System.nanoTime();
+        CityGraph graph = session.getGraph();
+        GAConfig config = session.getConfig();
+        int populationSize = parents.size();
+        Route[] slots = new Route[populationSize];
 
         List<Route> elites = selectionOperator.selectElite(
-            currentPopulation, 
-            currentConfig.getElitismCount()
+            parents, 
+            config.getElitismCount()
         );
-        elites.forEach(newPopulation::addRoute);
+        int eliteCount = Math.min(elites.size(), populationSize);
+
+        MemeticMode memeticMode = config.getMemeticMode();
+        NeighborLists neighbors = memeticMode == MemeticMode.NONE
+            ? null
+            : graph.getNeighborLists(config.getNeighborListSize());
+
+        for (int i = 0; i < eliteCount; i++) {
+            slots[i] = memeticMode == MemeticMode.ELITES
+                ? localSearch.improved(elites.get(i), neighbors)
+                : elites.get(i);
+        }
+
+        int immigrantCount = Math.min(immigrants.size(), populationSize - eliteCount);
+        for (int i = 0; i < immigrantCount; i++) {
+            slots[eliteCount + i] = immigrants.get(i);
+        }
+        int firstOffspring = eliteCount + immigrantCount;
+
+        // Um gerador independente por bloco, derivado em ordem do gerador da execução:
+        // a mesma semente produz a mesma população com qualquer número de threads
+        int offspringSlots = populationSize - firstOffspring;
+        int chunks = (offspringSlots + BREEDING_CHUNK_SIZE - 1) / BREEDING_CHUNK_SIZE;
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            chunkRandoms[c] = random.split();
+        }
+
+        double[] parentDistances = parents.getDistances(); // Em cache antes dos workers lerem em paralelo
+        NeighborLists offspringNeighbors = memeticMode == MemeticMode.OFFSPRING ? neighbors : null;
+        ParallelUtil.forEachRange(pool, parallelism, chunks, (fromChunk, toChunk) -> {
+            for (int c = fromChunk; c < toChunk; c++) {
+                int from = firstOffspring + c * BREEDING_CHUNK_SIZE;
+                int to = Math.min(from + BREEDING_CHUNK_SIZE, populationSize);
+                breed(parents, parentDistances, config, slots, from, to, chunkRandoms[c], offspringNeighbors);
+            }
+        });
+
+        Population newPopulation = new Population(Arrays.asList(slots));
+
+        // Avalia todos os descendentes antes da seleção/ordenação
+        long evaluationStart = System.nanoTime();
+        fitnessEvaluator.evaluate(newPopulation.getRoutes(), parallelism);
+        metrics.lap(GAMetrics.Operator.EVALUATION, evaluationStart);
+        countEvaluations(session, offspringSlots);
+
+        metrics.generationBred(startNanos, newPopulation.getEdgeDiversity(DIVERSITY_SAMPLE_SIZE));
+
+        return newPopulation;
+    }
 
-        int offspringCount = (int) (currentConfig.getPopulationSize() * 
-                                   currentConfig.getGenerationGap() / 100.0);
-        offspringCount = Math.max(offspringCount, 
-                                 currentConfig.getPopulationSize() - currentConfig.getElitismCount());
+    private void countEvaluations(RunSession session, long count) {
+        session.addEvaluations(count);
+        metrics.evaluated(count);
+    }
 
-        while (newPopulation.size() < currentConfig.getPopulationSize()) {
-            Route parent1 = selectionOperator.tournamentSelection(currentPopulation, 5);
-            Route parent2 = selectionOperator.tournamentSelection(currentPopulation, 5);
+    /**
+     * Resumo de uma geração: estatísticas de uma única passada e top 10 por heap, sem ordenar a população
+     */
+    private GenerationResult summarize(int generationNumber, Population population) {
+        PopulationStats stats = population.getStats();
+        return new GenerationResult(
+            generationNumber,
+            population.getRoute(stats.bestIndex()),
+            stats.bestDistance(),
+            stats.averageDistance(),
+            stats.worstDistance(),
+            population.getTopRoutes(10)
+        );
+    }
 
-            Route offspring1, offspring2;
+    /**
+     * Preenche slots[from, to) com descendentes dos pais atuais
+     *
+     * Propriedade dos genomas: filhos do crossover são novos e mutados no próprio array;
+     * sem crossover o pai é compartilhado e só copiado se a mutação ocorrer. Rotas de
+     * uma população nunca são alteradas depois de entrarem nela.
+     *
+     * Com neighbors != null (memético OFFSPRING) cada descendente passa pela busca local,
+     * em cópia-na-escrita quando o genoma ainda é o do pai.
+     */
+    private void breed(Population parents, double[] parentDistances, GAConfig config,
+                       Route[] slots, int from, int to, RandomGenerator rng, NeighborLists neighbors) {
+        double crossoverRate = config.getCrossoverRate() / 100.0;
+        double mutationRate = config.getMutationRate() / 100.0;
+        int tournamentSize = config.getTournamentSize();
+
+        int i = from;
+        while (i < to) {
+            // Latência dos operadores amostrada no primeiro par de cada bloco
+            boolean sampled = i == from;
+            long lap = sampled ? System.nanoTime() : 0L;
+
+            Route parent1 = parents.getRoute(selectionOperator.tournamentIndex(parentDistances, tournamentSize, rng));
+            Route parent2 = parents.getRoute(selectionOperator.tournamentIndex(parentDistances, tournamentSize, rng));
+            if (sampled) {
+                lap = metrics.lap(GAMetrics.Operator.SELECTION, lap);
+            }
 
-            if (random.nextDouble() < currentConfig.getCrossoverRate() / 100.0) {
+            if (rng.nextDouble() < crossoverRate) {
                 Route[] offspring = PMXCrossover.crossover(
                     parent1, parent2,
-                    currentConfig.getCrossoverPoint1(),
-                    currentConfig.getCrossoverPoint2()
+                    config.getCrossoverPoint1(),
+                    config.getCrossoverPoint2()
                 );
-                offspring1 = offspring[0];
-                offspring2 = offspring[1];
+                if (sampled) {
+                    lap = metrics.lap(GAMetrics.Operator.CROSSOVER, lap);
+                }
+                mutationOperator.mutateInPlace(offspring[0], mutationRate, rng);
+                if (sampled) {
+                    metrics.lap(GAMetrics.Operator.MUTATION, lap);
+                }
+                slots[i++] = polish(offspring[0], true, neighbors);
+                if (i < to) {
+                    mutationOperator.mutateInPlace(offspring[1], mutationRate, rng);
+                    slots[i++] = polish(offspring[1], true, neighbors);
+                }
             } else {
-                offspring1 = new Route(parent1);
-                offspring2 = new Route(parent2);
+                Route child1 = mutationOperator.mutate(parent1, mutationRate, rng);
+                if (sampled) {
+                    metrics.lap(GAMetrics.Operator.MUTATION, lap);
+                }
+                slots[i++] = polish(child1, child1 != parent1, neighbors);
+                if (i < to) {
+                    Route child2 = mutationOperator.mutate(parent2, mutationRate, rng);
+                    slots[i++] = polish(child2, child2 != parent2, neighbors);
+                }
             }
+        }
+    }
 
-            offspring1 = mutationOperator.mutate(offspring1, currentConfig.getMutationRate() / 100.0);
-            offspring2 = mutationOperator.mutate(offspring2, currentConfig.getMutationRate() / 100.0);
+    /**
+     * Busca local num descendente: no próprio genoma se ele é novo, senão numa cópia
+     */
+    private Route polish(Route child, boolean owned, NeighborLists neighbors) {
+        if (neighbors == null) {
+            return child;
+        }
+        if (owned) {
+            localSearch.improve(child, neighbors);
+            return child;
+        }
+        return localSearch.improved(child, neighbors);
+    }
 
-            if (newPopulation.size() < currentConfig.getPopulationSize()) {
-                newPopulation.addRoute(offspring1);
-            }
-            if (newPopulation.size() < currentConfig.getPopulationSize()) {
-                newPopulation.addRoute(offspring2);
+    public GAExecutionResult runGeneticAlgorithm(GAConfig config) {
+        CityGraph current = graph;
+        if (resultCache.isCacheable(config)) {
+            GAExecutionResult cached = resultCache.get(resultCache.keyOf(current, config), current, config);
+            if (cached != null) {
+                logger.debug("Resultado servido do cache: {}", cached.getBestDistance());
+                return cached;
             }
         }
 
-        currentPopulation = newPopulation;
-
-        GenerationResult result = new GenerationResult(
-            generationNumber,
-            currentPopulation.getBestRoute(),
-            currentPopulation.getBestDistance(),
-            currentPopulation.getAverageDistance(),
-            currentPopulation.getWorstDistance(),
-            currentPopulation.getTopRoutes(10)
-        );
-
-        history.add(result);
+        RunSession session = createRun(current, config);
+        try {
+            return sessions.execute(session, () -> runGeneticAlgorithm(session));
+        } catch (RuntimeException e) {
+            sessions.remove(session.getId());
+            throw e;
+        }
+    }
 
-        logger.info("Geração {}: Melhor={}, Média={}, Pior={}", 
-                   generationNumber,
-                   String.format("%.2f", result.getBestDistance()),
-                   String.format("%.2f", result.getAverageDistance()),
-                   String.format("%.2f", result.getWorstDistance()));
+    /**
+     * Registra uma execução com o grafo atual, sem iniciá-la
+     */
+    public RunSession createRun(GAConfig config) {
+        return createRun(graph, config);
+    }
 
-        return result;
+    private RunSession createRun(CityGraph graph, GAConfig config) {
+        IslandModel.validate(config);
+        return sessions.create(graph, config);
     }
 
-    public GAExecutionResult runGeneticAlgorithm(GAConfig config) {
+    /**
+     * Executa todas as gerações de uma sessão, parando antes se o cancelamento for pedido
+     */
+    GAExecutionResult runGeneticAlgorithm(RunSession session) {
         try {
+            GAConfig config = session.getConfig();
             long startTime = System.currentTimeMillis();
+            StopCriteria stopCriteria = new StopCriteria(config, System.nanoTime());
+            session.setStatus(RunStatus.RUNNING);
             
-            initializePopulation(config);
+            Population initialPopulation = initializePopulation(session);
             
             // Record initial generation
-            GenerationResult initialResult = new GenerationResult(
-                0,
-                currentPopulation.getBestRoute(),
-                currentPopulation.getBestDistance(),
-                currentPopulation.getAverageDistance(),
-                currentPopulation.getWorstDistance(),
-                currentPopulation.getTopRoutes(10)
-            );
-            history.add(initialResult);
-
-            for (int gen = 1; gen <= config.getMaxGenerations(); gen++) {
-                evolveGeneration(gen);
+            GenerationResult initialResult = summarize(0, initialPopulation);
+            session.addHistory(initialResult);
+            session.setLatestResult(initialResult);
+            session.publish(initialResult);
+
+            int generations = 0;
+            // A população inicial pode já atender um critério (ex.: semeadura atingiu a meta)
+            if (stopCriteria.check(initialResult, session.getEvaluations(), System.nanoTime()) == null) {
+                if (config.getIslands() > 1 || config.getMigrationGroup() != null) {
+                    generations = runIslands(session, initialPopulation, stopCriteria);
+                } else {
+                    while (generations < config.getMaxGenerations() && !session.isCancelRequested()) {
+                        GenerationResult result = evolveGeneration(session, ++generations);
+                        if (stopCriteria.check(result, session.getEvaluations(), System.nanoTime()) != null) {
+                            break;
+                        }
+                    }
+                }
             }
 
             long endTime = System.currentTimeMillis();
             long executionTime = endTime - startTime;
+            StopReason stopReason = stopCriteria.getReason() != null ? stopCriteria.getReason()
+                : session.isCancelRequested() ? StopReason.CANCELLED
+                : StopReason.MAX_GENERATIONS;
 
-            Route bestRoute = currentPopulation.getBestRoute();
+            Route bestRoute = session.getPopulation().getBestRoute();
             
-            logger.info("AG finalizado em {}ms - Melhor rota: {} (distância: {})", 
-                       executionTime, bestRoute.getCityNames(), bestRoute.getTotalDistance());
+            logger.info("AG finalizado em {}ms após {} gerações ({}) - Melhor distância: {}", 
+                       executionTime, generations, stopReason, bestRoute.getTotalDistance());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Melhor rota: {}", bestRoute.getCityNames());
+            }
 
-            return new GAExecutionResult(
+            GAExecutionResult result = new GAExecutionResult(
+                session.getId(),
                 bestRoute,
                 bestRoute.getTotalDistance(),
-                config.getMaxGenerations(),
-                new ArrayList<>(history),
+                generations,
+                session.getHistory(),
+                session.getHistoryStats(),
                 config,
-                executionTime
+                executionTime,
+                stopReason,
+                session.getEvaluations()
             );
+            session.setResult(result);
+            session.setStatus(session.isCancelRequested() ? RunStatus.CANCELLED : RunStatus.COMPLETED);
+
+            if (session.getStatus() == RunStatus.COMPLETED && resultCache.isCacheable(config)) {
+                resultCache.put(resultCache.keyOf(session.getGraph(), config), result);
+                resultCache.offerBestTour(bestRoute);
+            }
+
+            return result;
         } catch (Exception e) {
             logger.error("Erro ao executar AG", e);
+            session.setError(e.getMessage());
+            session.setStatus(RunStatus.FAILED);
             throw new RuntimeException("Falha ao executar AG: " + e.getMessage(), e);
+        } finally {
+            session.publishFinished();
         }
     }
 
-    public Map<String, Object> getPopulationStats() {
-        if (currentPopulation == null) {
+    /**
+     * Evolui as ilhas em paralelo (cada ilha reproduz numa única thread) e, ao final,
+     * junta as sub-populações na população da sessão. Com migrationGroup e o nó de
+     * migração ativo, as ilhas também trocam migrantes com os pares configurados.
+     */
+    private int runIslands(RunSession session, Population initialPopulation, StopCriteria stopCriteria) {
+        GAConfig config = session.getConfig();
+        CityGraph graph = session.getGraph();
+
+        try (MigrationTransport transport = migrationTransport(config, graph, initialPopulation)) {
+            IslandModel islands = new IslandModel(
+                session,
+                initialPopulation,
+                transport,
+                (parents, random, immigrants) -> nextGeneration(session, parents, random, 1, immigrants),
+                pool,
+                parallelism(config),
+                result -> {
+                    record(session, result);
+                    session.publish(result);
+                    return stopCriteria.check(result, session.getEvaluations(), System.nanoTime()) == null;
+                }
+            );
+            int generations = islands.run();
+
+            session.setPopulation(islands.mergedPopulation());
+            return generations;
+        }
+    }
+
+    private MigrationTransport migrationTransport(GAConfig config, CityGraph graph, Population initialPopulation) {
+        if (config.getMigrationGroup() == null || !migrationNode.isEnabled()) {
+            return new InProcessMigrationTransport(config.getIslands(), config.getMigrationTopology());
+        }
+        return new SocketMigrationTransport(config.getIslands(), config.getMigrationTopology(), migrationNode,
+            config.getMigrationGroup(), graph, initialPopulation.getRoute(0).getStartIndex());
+    }
+
+    public Map<String, Object> getPopulationStats(String runId) {
+        RunSession session = lookup(runId);
+        if (session == null) {
             return Map.of("error", "No population initialized");
         }
 
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("size", currentPopulation.size());
-        stats.put("bestDistance", currentPopulation.getBestDistance());
-        stats.put("averageDistance", currentPopulation.getAverageDistance());
-        stats.put("worstDistance", currentPopulation.getWorstDistance());
-        stats.put("bestRoute", currentPopulation.getBestRoute().getCityNames());
-        
-        return stats;
+        synchronized (session) {
+            Population population = session.getPopulation();
+            if (population == null) {
+                return Map.of("error", "No population initialized");
+            }
+
+            PopulationStats populationStats = population.getStats();
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("runId", session.getId());
+            stats.put("size", populationStats.size());
+            stats.put("bestDistance", populationStats.bestDistance());
+            stats.put("averageDistance", populationStats.averageDistance());
+            stats.put("worstDistance", populationStats.worstDistance());
+            stats.put("distanceStdDev", Math.sqrt(populationStats.variance()));
+            stats.put("bestRoute", population.getBestRoute().getCityNames());
+
+            return stats;
+        }
+    }
+
+    public List<GenerationResult> getHistory(String runId) {
+        return sessions.get(runId).getHistory();
+    }
+
+    public HistoryStats getHistoryStats(String runId) {
+        return sessions.get(runId).getHistoryStats();
+    }
+
+    /**
+     * @return the n best routes of the run, or an empty list if there is no run
+     */
+    public List<Route> getTopRoutes(String runId, int n) {
+        RunSession session = lookup(runId);
+        if (session == null) {
+            return List.of();
+        }
+        synchronized (session) {
+            Population population = session.getPopulation();
+            return population == null ? List.of() : population.getTopRoutes(n);
+        }
+    }
+
+    public Route getBestRoute(String runId) {
+        List<Route> best = getTopRoutes(runId, 1);
+        return best.isEmpty() ? null : best.get(0);
+    }
+
+    public boolean hasPopulation(String runId) {
+        RunSession session = lookup(runId);
+        return session != null && session.getPopulation() != null;
+    }
+
+    /**
+     * Sessão pelo ID (404 se não existir) ou a mais recente, que pode não existir
+     */
+    private RunSession lookup(String runId) {
+        return runId == null ? sessions.find(null) : sessions.get(runId);
+    }
+
+    public Map<String, Object> getCacheStats() {
+        return resultCache.getStats();
     }
 
-    public List<GenerationResult> getHistory() {
-        return new ArrayList<>(history);
+    public void clearCache() {
+        resultCache.clear();
     }
 
-    public Population getCurrentPopulation() {
-        return currentPopulation;
+    public void deleteRun(String runId) {
+        sessions.get(runId);
+        sessions.remove(runId);
     }
 
     public Map<String, City> getCities() {
-        return new HashMap<>(cities);
+        return graph.toMap();
     }
 
     public void setCities(Map<String, City> cities) {
-        this.cities = new HashMap<>(cities);
+        this.graph = CityGraph.of(cities.values());
         logger.info("Grafo atualizado: {} cidades", cities.size());
     }
+
+    public CityGraph setGraph(GraphRequest request) {
+        CityGraph newGraph = switch (request.source()) {
+            case EUCLIDEAN -> CityGraph.of(request.cities(), DistanceMatrix.Metric.EUCLIDEAN);
+            case HAVERSINE -> CityGraph.of(request.cities(), DistanceMatrix.Metric.HAVERSINE);
+            case EDGES -> {
+                if (request.edges() == null || request.edges().isEmpty()) {
+                    throw new IllegalArgumentException("Lista de arestas obrigatória para source=EDGES");
+                }
+                yield CityGraph.withEdges(request.cities(), request.edges(), request.directed());
+            }
+        };
+
+        this.graph = newGraph;
+        logger.info("Grafo atualizado: {} cidades ({})", newGraph.size(), request.source());
+        return newGraph;
+    }
+
+    /**
+     * Replaces the graph with a TSPLIB instance read from the stream (not closed here)
+     */
+    public TsplibParser.Instance loadTsplib(InputStream in) throws IOException {
+        long start = System.nanoTime();
+        TsplibParser.Instance instance = TsplibParser.parse(in);
+        this.graph = instance.graph();
+        logger.info("Grafo atualizado: {} cidades (TSPLIB {} {} {}) em {}ms", instance.graph().size(),
+            instance.name(), instance.type(), instance.edgeWeightType(), (System.nanoTime() - start) / 1_000_000);
+        if (!instance.hasCoordinates()) {
+            logger.warn("Instância TSPLIB {} sem coordenadas: cidades em (0, 0), seeding por curva de preenchimento degenera",
+                instance.name());
+        }
+        return instance;
+    }
 }
@@ -0,0 +1,72 @@
+package com.yourproject.services;
+
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GenerationResult;
+import com.yourproject.models.StopReason;
+
+/**
+ * Early stop criteria of one run: stagnation, target distance, time budget and
+ * evaluation budget, checked once per generation in generation order
+ *
+ * Generation count and cancellation are left to the caller's loop; this class only
+ * tells it to stop early and remembers which criterion fired first.
+ */
+class StopCriteria {
+
+    private final Integer stagnationGenerations;
+    private final Double targetDistance;
+    private final long startNanos;
+    private final long timeBudgetNanos;
+    private final long maxEvaluations;
+
+    private double bestDistance = Double.POSITIVE_INFINITY;
+    private int stagnantGenerations;
+    private StopReason reason;
+
+    StopCriteria(GAConfig config, long startNanos) {
+        this.stagnationGenerations = config.getStagnationGenerations();
+        this.targetDistance = config.getTargetDistance();
+        this.startNanos = startNanos;
+        this.timeBudgetNanos = config.getTimeBudgetMs() != null
+            ? config.getTimeBudgetMs() * 1_000_000L
+            : Long.MAX_VALUE;
+        this.maxEvaluations = config.getMaxEvaluations() != null ? config.getMaxEvaluations() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Registers a finished generation
+     *
+     * @param evaluations route evaluations of the run so far
+     * @return the criterion that fired, or null to keep evolving
+     */
+    StopReason check(GenerationResult result, long evaluations, long nowNanos) {
+        if (reason != null) {
+            return reason;
+        }
+
+        if (result.getBestDistance() < bestDistance) {
+            bestDistance = result.getBestDistance();
+            stagnantGenerations = 0;
+        } else {
+            stagnantGenerations++;
+        }
+
+        if (targetDistance != null && bestDistance <= targetDistance) {
+            reason = StopReason.TARGET_DISTANCE;
+        } else if (stagnationGenerations != null && stagnantGenerations >= stagnationGenerations) {
+            reason = StopReason.STAGNATION;
+        } else if (evaluations >= maxEvaluations) {
+            reason = StopReason.MAX_EVALUATIONS;
+        } else if (nowNanos - startNanos >= timeBudgetNanos) {
+            reason = StopReason.TIME_BUDGET;
+        }
+        return reason;
+    }
+
+    /**
+     * @return the criterion that fired, or null if none did
+     */
+    StopReason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,205 @@
+package com.yourproject.services.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GAExecutionResult;
+import com.yourproject.models.HistoryStats;
+import com.yourproject.models.Route;
+import com.yourproject.models.StopReason;
+import com.yourproject.services.BaseService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of completed run results keyed by graph fingerprint and GA configuration
+ *
+ * Holds at most {@code max-entries} results (least recently used evicted first), each
+ * for at most {@code ttl}. Entries keep only the best tour's ordinals and the run
+ * summary, never routes or generation history, so they pin neither graphs nor the
+ * memory that the history policy bounds. Alongside the results it remembers the best
+ * tour found per graph and start city, which runs with warmStart put into their
+ * initial population.
+ */
+@Component
+public class ResultCache extends BaseService {
+
+    /**
+     * Graph fingerprint plus the result-relevant configuration serialized with sorted
+     * properties (seed included, so fixed-seed and random-seed requests never share an entry)
+     */
+    public record Key(long graphFingerprint, String config) {}
+
+    // Não mudam a rota encontrada: threads (a semente independe do paralelismo), uso do cache e histórico
+    private static final List<String> IGNORED_CONFIG = List.of(
+        "parallelism", "useCache", "historyPolicy", "historySize", "historyInterval", "historyKeepRoutes");
+
+    private record Entry(int start, int[] tour, double bestDistance, int totalGenerations, HistoryStats historyStats,
+                         long executionTimeMs, StopReason stopReason, long evaluations, long storedAt) {}
+
+    private record TourKey(long graphFingerprint, int start) {}
+
+    private record BestTour(int[] tour, double distance) {}
+
+    private final JsonMapper mapper = JsonMapper.builder()
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .build();
+
+    private final int maxEntries;
+    private final long ttlMs;
+    private final Map<Key, Entry> results;
+    private final Map<TourKey, BestTour> bestTours;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResultCache(
+            @Value("${app.ga.cache.max-entries:256}") int maxEntries,
+            @Value("${app.ga.cache.ttl:1h}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttl.toMillis();
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                boolean evict = size() > ResultCache.this.maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        this.bestTours = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TourKey, BestTour> eldest) {
+                return size() > ResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Runs that may be served from or stored in the cache: cache enabled, not opted out
+     * and not exchanging migrants with other nodes (their outcome depends on the peers)
+     */
+    public boolean isCacheable(GAConfig config) {
+        return isEnabled() && Boolean.TRUE.equals(config.getUseCache()) && config.getMigrationGroup() == null;
+    }
+
+    public Key keyOf(CityGraph graph, GAConfig config) {
+        try {
+            ObjectNode relevant = mapper.valueToTree(config);
+            relevant.remove(IGNORED_CONFIG);
+            return new Key(graph.getFingerprint(), mapper.writeValueAsString(relevant));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Configuração não serializável para o cache", e);
+        }
+    }
+
+    /**
+     * Rebuilds a cached result on the graph and configuration of the request. It has no
+     * run ID (the run that produced it may be gone) and no generation history.
+     *
+     * @param graph graph the key was computed from
+     * @return the cached result, or null on a miss (expired entries count as misses)
+     */
+    public synchronized GAExecutionResult get(Key key, CityGraph graph, GAConfig config) {
+        Entry entry = results.get(key);
+        if (entry != null && isExpired(entry, System.currentTimeMillis())) {
+            results.remove(key);
+            evictions.increment();
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        Route best = new Route(graph, entry.start(), entry.tour().clone());
+        return new GAExecutionResult(null, best, entry.bestDistance(), entry.totalGenerations(), List.of(),
+            entry.historyStats(), config, entry.executionTimeMs(), entry.stopReason(), entry.evaluations());
+    }
+
+    public synchronized void put(Key key, GAExecutionResult result) {
+        if (isEnabled()) {
+            Route best = result.getBestRoute();
+            results.put(key, new Entry(best.getStartIndex(), best.getTour().clone(), result.getBestDistance(),
+                result.getTotalGenerations(), result.getHistoryStats(), result.getExecutionTimeMs(),
+                result.getStopReason(), result.getEvaluations(), System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Keeps the route as the best known tour of its graph and start city if it beats the current one
+     */
+    public synchronized void offerBestTour(Route route) {
+        if (!isEnabled()) {
+            return;
+        }
+        TourKey key = new TourKey(route.getGraph().getFingerprint(), route.getStartIndex());
+        BestTour best = bestTours.get(key);
+        if (best == null || route.getTotalDistance() < best.distance()) {
+            bestTours.put(key, new BestTour(route.getTour().clone(), route.getTotalDistance()));
+        }
+    }
+
+    /**
+     * @return a copy of the best known tour for the graph and start city, or null if none
+     */
+    public synchronized int[] bestTour(CityGraph graph, int start) {
+        BestTour best = bestTours.get(new TourKey(graph.getFingerprint(), start));
+        return best != null ? best.tour().clone() : null;
+    }
+
+    public synchronized void clear() {
+        results.clear();
+        bestTours.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${app.ga.cache.eviction-interval:60s}")
+    public synchronized void evictExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> entries = results.values().iterator();
+        while (entries.hasNext()) {
+            if (isExpired(entries.next(), now)) {
+                entries.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.storedAt() >= ttlMs;
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", results.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlMs", ttlMs);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", lookups == 0 ? 0.0 : (double) hitCount / lookups);
+        stats.put("evictions", evictions.sum());
+        stats.put("bestTours", bestTours.size());
+        return stats;
+    }
+}
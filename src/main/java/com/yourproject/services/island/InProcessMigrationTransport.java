@@ -0,0 +1,71 @@
+package com.yourproject.services.island;
+
+import com.yourproject.models.MigrationTopology;
+import com.yourproject.models.Route;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Migration between the islands of one JVM through lock-free inboxes
+ *
+ * Routes are never modified once they are in a population, so migrants are handed
+ * over by reference.
+ */
+public class InProcessMigrationTransport implements MigrationTransport {
+
+    private final Queue<Route>[] inboxes;
+    private final int[][] targets;
+
+    @SuppressWarnings("unchecked")
+    public InProcessMigrationTransport(int islands, MigrationTopology topology) {
+        this.inboxes = new Queue[islands];
+        this.targets = new int[islands][];
+        for (int i = 0; i < islands; i++) {
+            inboxes[i] = new ConcurrentLinkedQueue<>();
+            targets[i] = targets(i, islands, topology);
+        }
+    }
+
+    private static int[] targets(int island, int islands, MigrationTopology topology) {
+        if (islands == 1) {
+            return new int[0];
+        }
+        if (topology == MigrationTopology.RING) {
+            return new int[]{(island + 1) % islands};
+        }
+        int[] targets = new int[islands - 1];
+        for (int i = 0, t = 0; i < islands; i++) {
+            if (i != island) {
+                targets[t++] = i;
+            }
+        }
+        return targets;
+    }
+
+    @Override
+    public void publish(int island, List<Route> migrants) {
+        for (int target : targets[island]) {
+            inboxes[target].addAll(migrants);
+        }
+    }
+
+    /**
+     * Puts migrants directly into an island's inbox (e.g. routes received from another node)
+     */
+    public void deliver(int island, List<Route> migrants) {
+        inboxes[island].addAll(migrants);
+    }
+
+    @Override
+    public List<Route> receive(int island) {
+        List<Route> immigrants = new ArrayList<>();
+        Route route;
+        while ((route = inboxes[island].poll()) != null) {
+            immigrants.add(route);
+        }
+        return immigrants;
+    }
+}
@@ -0,0 +1,39 @@
+package com.yourproject.services.island;
+
+import com.yourproject.models.Population;
+
+import java.util.SplittableRandom;
+
+/**
+ * One sub-population of the island model
+ *
+ * Only the worker thread that owns the island touches its population and RNG; other
+ * islands reach it solely through the {@link MigrationTransport}.
+ */
+class Island {
+    private final int id;
+    private final SplittableRandom random;
+    private Population population;
+
+    Island(int id, Population population, SplittableRandom random) {
+        this.id = id;
+        this.population = population;
+        this.random = random;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    SplittableRandom getRandom() {
+        return random;
+    }
+
+    Population getPopulation() {
+        return population;
+    }
+
+    void setPopulation(Population population) {
+        this.population = population;
+    }
+}
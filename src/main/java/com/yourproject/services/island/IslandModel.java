@@ -0,0 +1,247 @@
+package com.yourproject.services.island;
+
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GenerationResult;
+import com.yourproject.models.Population;
+import com.yourproject.models.PopulationStats;
+import com.yourproject.models.Route;
+import com.yourproject.services.session.RunSession;
+import com.yourproject.utils.ParallelUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Island-model GA: the population is split into sub-populations evolved independently
+ * on the worker threads, exchanging their best routes every migrationInterval generations
+ *
+ * Each worker steps its own islands round-robin. Workers only meet every
+ * {@link #MAX_GENERATION_LAG} generations, so no island runs further ahead of the slowest
+ * one (and no more generations wait to be merged) even when the pool runs the workers
+ * one after another. Emigrants go through a {@link MigrationTransport} (lock-free inboxes in process, or
+ * other nodes over sockets) and are picked up by the receiver whenever it next breeds.
+ * A generation is reported once every island has finished it: the last island to get
+ * there merges the per-island summaries and publishes them in generation order.
+ */
+public class IslandModel {
+
+    // Menor sub-população aceita por ilha
+    public static final int MIN_ISLAND_SIZE = 10;
+
+    private static final int TOP_ROUTES = 10;
+
+    // Gerações por bloco entre os pontos de encontro dos workers
+    static final int MAX_GENERATION_LAG = 16;
+
+    /**
+     * Breeds the next generation of one island from its parents and the immigrants
+     * received since its previous generation
+     */
+    @FunctionalInterface
+    public interface Breeder {
+        Population next(Population parents, SplittableRandom random, List<Route> immigrants);
+    }
+
+    /**
+     * Receives the merged result of each generation, in order
+     */
+    @FunctionalInterface
+    public interface Reporter {
+        /**
+         * @return false to stop the run after this generation
+         */
+        boolean report(GenerationResult result);
+    }
+
+    private final RunSession session;
+    private final GAConfig config;
+    private final Island[] islands;
+    private final MigrationTransport transport;
+    private final Breeder breeder;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final Reporter reporter;
+
+    // Resumos por ilha das gerações que nem todas as ilhas terminaram
+    private final Map<Integer, Partial> partials = new ConcurrentHashMap<>();
+    private final Map<Integer, GenerationResult> ready = new HashMap<>();
+    private int nextToReport = 1;
+    private boolean draining; // Guardado por ready: há uma thread publicando as gerações prontas
+    private volatile int reported;
+    private volatile boolean stopped;
+
+    /**
+     * @param initial   population to split; route i goes to island i % islands
+     * @param transport carries migrants between islands (closed by the caller)
+     * @param reporter  receives the merged result of each generation and may stop the run
+     */
+    public IslandModel(RunSession session, Population initial, MigrationTransport transport, Breeder breeder,
+                       ForkJoinPool pool, int parallelism, Reporter reporter) {
+        this.session = session;
+        this.config = session.getConfig();
+        this.transport = transport;
+        this.breeder = breeder;
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.reporter = reporter;
+
+        int count = config.getIslands();
+        validate(config);
+
+        List<List<Route>> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            parts.add(new ArrayList<>(initial.size() / count + 1));
+        }
+        for (int i = 0; i < initial.size(); i++) {
+            parts.get(i % count).add(initial.getRoute(i));
+        }
+
+        this.islands = new Island[count];
+        for (int i = 0; i < count; i++) {
+            islands[i] = new Island(i, new Population(parts.get(i)), session.getRandom().split());
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if an island would get fewer than {@link #MIN_ISLAND_SIZE} routes
+     */
+    public static void validate(GAConfig config) {
+        if (config.getIslands() > 1 && config.getPopulationSize() / config.getIslands() < MIN_ISLAND_SIZE) {
+            throw new IllegalArgumentException("População por ilha menor que " + MIN_ISLAND_SIZE
+                + ": populationSize=" + config.getPopulationSize() + ", islands=" + config.getIslands());
+        }
+    }
+
+    /**
+     * Evolves every island up to maxGenerations, until the reporter stops the run or
+     * until cancellation is requested
+     *
+     * @return number of generations finished by all islands and reported
+     */
+    public int run() {
+        int maxGenerations = config.getMaxGenerations();
+        int interval = config.getMigrationInterval();
+        int migrants = config.getMigrationSize();
+
+        for (int first = 1; first <= maxGenerations && !stopped && !session.isCancelRequested(); first += MAX_GENERATION_LAG) {
+            int blockStart = first;
+            int blockEnd = Math.min(maxGenerations, first + MAX_GENERATION_LAG - 1);
+            ParallelUtil.forEachRange(pool, parallelism, islands.length, (from, to) -> {
+                for (int generation = blockStart; generation <= blockEnd && !stopped && !session.isCancelRequested(); generation++) {
+                    for (int i = from; i < to; i++) {
+                        Island island = islands[i];
+                        List<Route> immigrants = transport.receive(island.getId());
+                        island.setPopulation(breeder.next(island.getPopulation(), island.getRandom(), immigrants));
+                        if (generation % interval == 0) {
+                            transport.publish(island.getId(), island.getPopulation().getTopRoutes(migrants));
+                        }
+                        finished(island, generation);
+                    }
+                }
+            });
+        }
+
+        // Parada antecipada: gerações que nem todas as ilhas terminaram não serão publicadas
+        partials.clear();
+        return reported;
+    }
+
+    /**
+     * All islands' routes as one population
+     */
+    public Population mergedPopulation() {
+        List<Route> routes = new ArrayList<>(config.getPopulationSize());
+        for (Island island : islands) {
+            routes.addAll(island.getPopulation().getRoutes());
+        }
+        return new Population(routes);
+    }
+
+    private void finished(Island island, int generation) {
+        Partial partial = partials.computeIfAbsent(generation, g -> new Partial(islands.length));
+        Population population = island.getPopulation();
+        partial.stats[island.getId()] = population.getStats();
+        partial.top[island.getId()] = population.getTopRoutes(TOP_ROUTES);
+
+        // O decremento atômico publica as escritas acima para quem chegar a zero
+        if (partial.remaining.decrementAndGet() > 0) {
+            return;
+        }
+        partials.remove(generation);
+        GenerationResult merged = merge(generation, partial);
+
+        synchronized (ready) {
+            ready.put(generation, merged);
+            if (draining) {
+                return; // Quem está publicando pega esta geração na próxima volta
+            }
+            draining = true;
+        }
+
+        // Um único publicador por vez, em ordem; o reporter (SSE, histórico, métricas) roda fora
+        // do lock, então uma ilha que entrega uma geração nunca espera por um assinante lento
+        List<GenerationResult> batch = new ArrayList<>();
+        while (true) {
+            synchronized (ready) {
+                GenerationResult next;
+                while (!stopped && (next = ready.remove(nextToReport)) != null) {
+                    batch.add(next);
+                    nextToReport++;
+                }
+                if (batch.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+            }
+            for (GenerationResult result : batch) {
+                if (stopped) {
+                    break;
+                }
+                stopped = !reporter.report(result);
+                reported = result.getGeneration();
+            }
+            batch.clear();
+        }
+    }
+
+    private static GenerationResult merge(int generation, Partial partial) {
+        double best = Double.POSITIVE_INFINITY;
+        double worst = Double.NEGATIVE_INFINITY;
+        double sum = 0.0;
+        int size = 0;
+        List<Route> top = new ArrayList<>();
+
+        for (int i = 0; i < partial.stats.length; i++) {
+            PopulationStats stats = partial.stats[i];
+            best = Math.min(best, stats.bestDistance());
+            worst = Math.max(worst, stats.worstDistance());
+            sum += stats.averageDistance() * stats.size();
+            size += stats.size();
+            top.addAll(partial.top[i]);
+        }
+
+        top.sort(Comparator.comparingDouble(Route::getTotalDistance));
+        List<Route> topRoutes = new ArrayList<>(top.subList(0, Math.min(TOP_ROUTES, top.size())));
+        return new GenerationResult(generation, topRoutes.get(0), best, sum / size, worst, topRoutes);
+    }
+
+    private static final class Partial {
+        final PopulationStats[] stats;
+        final List<Route>[] top;
+        final AtomicInteger remaining;
+
+        @SuppressWarnings("unchecked")
+        Partial(int islands) {
+            this.stats = new PopulationStats[islands];
+            this.top = new List[islands];
+            this.remaining = new AtomicInteger(islands);
+        }
+    }
+}
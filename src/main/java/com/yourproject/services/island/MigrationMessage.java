@@ -0,0 +1,8 @@
+package com.yourproject.services.island;
+
+import java.util.List;
+
+/**
+ * Migrants sent between nodes: ordinal tours valid for the graph with the given fingerprint
+ */
+public record MigrationMessage(String group, long graphFingerprint, int start, List<int[]> tours) {}
@@ -0,0 +1,237 @@
+package com.yourproject.services.island;
+
+import com.yourproject.models.Route;
+import com.yourproject.services.BaseService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+/**
+ * Socket endpoint that lets island-model runs on several JVMs exchange migrants
+ *
+ * Listens on {@code app.ga.migration.port} (0 = do not listen) at
+ * {@code app.ga.migration.bind-address} (loopback by default) and sends to every
+ * {@code app.ga.migration.peers} entry (host:port, comma separated). Frames are not
+ * authenticated and their routes go straight into the running populations, so the port
+ * must only be reachable from a trusted network. Each frame is a
+ * length-prefixed {@link RouteCodec} message; received messages are dispatched to the
+ * run registered under their migration group. Delivery is best effort: a peer that is
+ * down is skipped and reconnected on the next send, so runs never wait on the network.
+ */
+@Component
+public class MigrationNode extends BaseService {
+
+    private static final int CONNECT_TIMEOUT_MS = 1000;
+    private static final int MAX_FRAME_BYTES = 64 * 1024 * 1024;
+
+    private static final int BACKLOG = 50;
+
+    private final int port;
+    private final InetAddress bindAddress;
+    private final List<InetSocketAddress> peers;
+    private final Map<String, Consumer<MigrationMessage>> receivers = new ConcurrentHashMap<>();
+    private final Map<InetSocketAddress, DataOutputStream> connections = new ConcurrentHashMap<>();
+
+    // Um único remetente: mensagens para o mesmo par saem na ordem de publicação
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(daemon("ga-migration-sender"));
+
+    private volatile ServerSocket server;
+    private volatile boolean closed;
+
+    public MigrationNode(
+            @Value("${app.ga.migration.port:0}") int port,
+            @Value("${app.ga.migration.bind-address:127.0.0.1}") String bindAddress,
+            @Value("${app.ga.migration.peers:}") String peers) {
+        this.port = port;
+        try {
+            this.bindAddress = InetAddress.getByName(bindAddress);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Endereço de migração inválido: " + bindAddress, e);
+        }
+        this.peers = parsePeers(peers);
+    }
+
+    static List<InetSocketAddress> parsePeers(String peers) {
+        return Arrays.stream(peers.split(","))
+            .map(String::trim)
+            .filter(peer -> !peer.isEmpty())
+            .map(peer -> {
+                int colon = peer.lastIndexOf(':');
+                if (colon <= 0) {
+                    throw new IllegalArgumentException("Par de migração inválido (esperado host:porta): " + peer);
+                }
+                return InetSocketAddress.createUnresolved(peer.substring(0, colon),
+                    Integer.parseInt(peer.substring(colon + 1)));
+            })
+            .toList();
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (port <= 0) {
+            return;
+        }
+        server = new ServerSocket(port, BACKLOG, bindAddress);
+        daemon("ga-migration-listener").newThread(this::acceptLoop).start();
+        logger.info("Nó de migração escutando em {}:{} (pares: {})", bindAddress.getHostAddress(), port, peers);
+    }
+
+    /**
+     * @return true if migrants can leave or reach this JVM
+     */
+    public boolean isEnabled() {
+        return server != null || !peers.isEmpty();
+    }
+
+    /**
+     * Routes messages of a migration group to the given receiver (replacing any previous one)
+     */
+    public void register(String group, Consumer<MigrationMessage> receiver) {
+        receivers.put(group, receiver);
+    }
+
+    public void unregister(String group, Consumer<MigrationMessage> receiver) {
+        receivers.remove(group, receiver);
+    }
+
+    /**
+     * Encodes the migrants on the caller's thread and sends them to every peer in the background
+     */
+    public void send(String group, long graphFingerprint, List<Route> migrants) {
+        if (peers.isEmpty() || migrants.isEmpty() || closed) {
+            return;
+        }
+        byte[] frame = RouteCodec.encode(group, graphFingerprint, migrants);
+        try {
+            sender.execute(() -> {
+                for (InetSocketAddress peer : peers) {
+                    write(peer, frame);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Encerrando
+        }
+    }
+
+    private void write(InetSocketAddress peer, byte[] frame) {
+        try {
+            DataOutputStream out = connections.get(peer);
+            if (out == null) {
+                out = connect(peer);
+            }
+            out.writeInt(frame.length);
+            out.write(frame);
+            out.flush();
+        } catch (IOException e) {
+            logger.debug("Migrantes não enviados para {}: {}", peer, e.getMessage());
+            DataOutputStream stale = connections.remove(peer);
+            if (stale != null) {
+                closeQuietly(stale);
+            }
+        }
+    }
+
+    private DataOutputStream connect(InetSocketAddress peer) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(peer.getHostString(), peer.getPort()), CONNECT_TIMEOUT_MS);
+            socket.setTcpNoDelay(true);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        connections.put(peer, out);
+        return out;
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = server.accept();
+                daemon("ga-migration-receiver").newThread(() -> readLoop(socket)).start();
+            } catch (IOException e) {
+                if (!closed) {
+                    logger.warn("Falha ao aceitar conexão de migração: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void readLoop(Socket socket) {
+        try (socket; DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            while (!closed) {
+                int length = in.readInt();
+                if (length <= 0 || length > MAX_FRAME_BYTES) {
+                    throw new IOException("Tamanho de quadro inválido: " + length);
+                }
+                byte[] frame = new byte[length];
+                in.readFully(frame);
+                dispatch(RouteCodec.decode(new DataInputStream(new ByteArrayInputStream(frame))));
+            }
+        } catch (IOException e) {
+            // Par desconectou (ou enviou lixo): a conexão é descartada
+            logger.debug("Conexão de migração encerrada ({}): {}", socket.getRemoteSocketAddress(), e.getMessage());
+        }
+    }
+
+    private void dispatch(MigrationMessage message) {
+        Consumer<MigrationMessage> receiver = receivers.get(message.group());
+        if (receiver != null) {
+            receiver.accept(message);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        sender.shutdownNow();
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // Ignorado no encerramento
+            }
+        }
+        connections.values().forEach(MigrationNode::closeQuietly);
+        connections.clear();
+    }
+
+    private static void closeQuietly(DataOutputStream out) {
+        try {
+            out.close();
+        } catch (IOException e) {
+            // Ignorado
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.yourproject.services.island;
+
+import com.yourproject.models.Route;
+
+import java.util.List;
+
+/**
+ * How the island model moves migrants between islands
+ *
+ * Called from the island worker threads: {@link #publish} and {@link #receive} must be
+ * thread-safe and must not wait for other islands.
+ */
+public interface MigrationTransport extends AutoCloseable {
+
+    /**
+     * Hands the migrants of an island to the islands it sends to
+     */
+    void publish(int island, List<Route> migrants);
+
+    /**
+     * Migrants that reached an island since its previous call (possibly none)
+     */
+    List<Route> receive(int island);
+
+    /**
+     * Stops delivering to this run; later calls have no effect
+     */
+    @Override
+    default void close() {
+    }
+}
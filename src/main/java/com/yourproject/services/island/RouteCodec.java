@@ -0,0 +1,122 @@
+package com.yourproject.services.island;
+
+import com.yourproject.models.Route;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary encoding of migrant routes
+ *
+ * Layout: magic, version, group (UTF), graph fingerprint, start ordinal, route count, then
+ * per route its length and ordinals as unsigned LEB128 varints (1–3 bytes per city for
+ * graphs up to 2M cities). Distances are not sent; the receiver evaluates the tours on
+ * its own copy of the graph.
+ */
+public final class RouteCodec {
+
+    static final int MAGIC = 0x54535052; // "TSPR"
+    static final byte VERSION = 1;
+
+    // Limites de sanidade para mensagens recebidas
+    private static final int MAX_ROUTES = 10_000;
+    private static final int MAX_CITIES = 10_000_000;
+
+    private RouteCodec() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    public static byte[] encode(String group, long graphFingerprint, List<Route> routes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(group);
+            out.writeLong(graphFingerprint);
+            out.writeInt(routes.isEmpty() ? 0 : routes.get(0).getStartIndex());
+            writeVarInt(out, routes.size());
+            for (Route route : routes) {
+                int[] tour = route.getTour();
+                writeVarInt(out, tour.length);
+                for (int ordinal : tour) {
+                    writeVarInt(out, ordinal);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes one complete frame (available() must be the bytes left in it). Ordinals are
+     * only checked against the codec limit here; the receiver checks the tours against
+     * its own graph.
+     *
+     * @throws IOException if the payload is truncated, corrupted or is not a migration message
+     */
+    public static MigrationMessage decode(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Mensagem de migração inválida");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Versão de mensagem de migração não suportada: " + version);
+        }
+
+        String group = in.readUTF();
+        long fingerprint = in.readLong();
+        int start = in.readInt();
+        if (start < 0 || start >= MAX_CITIES) {
+            throw new IOException("Cidade inicial inválida: " + start);
+        }
+        // Varints acima de 2^31 - 1 chegam negativos
+        int count = readVarInt(in);
+        if (count < 0 || count > MAX_ROUTES) {
+            throw new IOException("Número de rotas inválido: " + count);
+        }
+
+        List<int[]> tours = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            int length = readVarInt(in);
+            // Cada cidade ocupa ao menos um byte: o comprimento não pode passar do que resta do quadro
+            if (length < 0 || length > MAX_CITIES || length > in.available()) {
+                throw new IOException("Comprimento de rota inválido: " + length);
+            }
+            int[] tour = new int[length];
+            for (int i = 0; i < length; i++) {
+                tour[i] = readVarInt(in);
+                if (tour[i] < 0 || tour[i] >= MAX_CITIES) {
+                    throw new IOException("Cidade inválida na rota: " + tour[i]);
+                }
+            }
+            tours.add(tour);
+        }
+        return new MigrationMessage(group, fingerprint, start, tours);
+    }
+
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint malformado");
+    }
+}
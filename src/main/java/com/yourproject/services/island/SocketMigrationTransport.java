@@ -0,0 +1,88 @@
+package com.yourproject.services.island;
+
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.MigrationTopology;
+import com.yourproject.models.Route;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Migration across JVMs: the islands of this node migrate in process as usual, the
+ * last island also sends its migrants to the peer nodes and routes received from
+ * peers enter island 0, so the local ring extends into a ring of nodes.
+ *
+ * Only tours that fit this run's graph (same fingerprint and start city, a permutation
+ * of the other cities) are accepted; anything else is dropped.
+ */
+public class SocketMigrationTransport implements MigrationTransport {
+
+    private final InProcessMigrationTransport local;
+    private final MigrationNode node;
+    private final String group;
+    private final CityGraph graph;
+    private final int start;
+    private final int exporter;
+    private final Consumer<MigrationMessage> receiver = this::accept;
+
+    public SocketMigrationTransport(int islands, MigrationTopology topology, MigrationNode node,
+                                    String group, CityGraph graph, int start) {
+        this.local = new InProcessMigrationTransport(islands, topology);
+        this.node = node;
+        this.group = group;
+        this.graph = graph;
+        this.start = start;
+        this.exporter = islands - 1;
+        node.register(group, receiver);
+    }
+
+    @Override
+    public void publish(int island, List<Route> migrants) {
+        local.publish(island, migrants);
+        if (island == exporter) {
+            node.send(group, graph.getFingerprint(), migrants);
+        }
+    }
+
+    @Override
+    public List<Route> receive(int island) {
+        return local.receive(island);
+    }
+
+    private void accept(MigrationMessage message) {
+        if (message.graphFingerprint() != graph.getFingerprint() || message.start() != start) {
+            return;
+        }
+        List<Route> immigrants = new ArrayList<>(message.tours().size());
+        for (int[] tour : message.tours()) {
+            if (isValidTour(tour)) {
+                Route route = new Route(graph, start, tour);
+                route.getTotalDistance(); // Avaliada aqui, fora das threads das ilhas
+                immigrants.add(route);
+            }
+        }
+        local.deliver(0, immigrants);
+    }
+
+    private boolean isValidTour(int[] tour) {
+        int n = graph.size();
+        if (tour.length != n - 1) {
+            return false;
+        }
+        boolean[] seen = new boolean[n];
+        seen[start] = true;
+        for (int city : tour) {
+            if (city < 0 || city >= n || seen[city]) {
+                return false;
+            }
+            seen[city] = true;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        node.unregister(group, receiver);
+    }
+}
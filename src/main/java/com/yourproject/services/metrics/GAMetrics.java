@@ -0,0 +1,91 @@
+package com.yourproject.services.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of the GA: generation and evaluation counters (rates come from the
+ * backend, e.g. {@code rate(ga_generations_total[1m])}), latency histograms per
+ * operator and the edge diversity of each bred generation
+ *
+ * Operator latencies are sampled by the caller (the first parent pair of each breeding
+ * chunk), so the timers cost a few clock reads per chunk instead of per offspring.
+ */
+@Component
+public class GAMetrics {
+
+    public enum Operator {
+        SELECTION,
+        CROSSOVER,
+        MUTATION,
+        EVALUATION
+    }
+
+    private final Counter generations;
+    private final Counter evaluations;
+    private final Timer generationDuration;
+    private final Map<Operator, Timer> operators = new EnumMap<>(Operator.class);
+    private final DistributionSummary diversity;
+
+    public GAMetrics(MeterRegistry registry) {
+        this.generations = Counter.builder("ga.generations")
+            .description("Generations completed by runs (an island model generation counts once, after its islands merge)")
+            .register(registry);
+        this.evaluations = Counter.builder("ga.evaluations")
+            .description("Full route distance evaluations")
+            .register(registry);
+        this.generationDuration = Timer.builder("ga.generation.duration")
+            .description("Time to breed and evaluate one generation")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(10_000))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(registry);
+        for (Operator operator : Operator.values()) {
+            operators.put(operator, Timer.builder("ga.operator.duration")
+                .description("Latency of one call of a GA operator (selection: one parent pair; evaluation: one population)")
+                .tag("operator", operator.name().toLowerCase())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry));
+        }
+        this.diversity = DistributionSummary.builder("ga.population.diversity")
+            .description("Average share of the edges of a generation's routes that its best route does not use")
+            .publishPercentiles(0.5, 0.95)
+            .register(registry);
+    }
+
+    public void generationBred(long startNanos, double diversityValue) {
+        generationDuration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (!Double.isNaN(diversityValue)) {
+            diversity.record(diversityValue);
+        }
+    }
+
+    public void generationRecorded() {
+        generations.increment();
+    }
+
+    public void evaluated(long count) {
+        evaluations.increment(count);
+    }
+
+    /**
+     * Records the time since startNanos for the operator
+     *
+     * @return the current time, to start the next measurement
+     */
+    public long lap(Operator operator, long startNanos) {
+        long now = System.nanoTime();
+        operators.get(operator).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+}
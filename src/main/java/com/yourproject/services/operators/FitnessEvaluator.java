@@ -0,0 +1,57 @@
+package com.yourproject.services.operators;
+
+import com.yourproject.models.Route;
+import com.yourproject.utils.ParallelUtil;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Evaluates route distances ahead of selection and sorting
+ * 
+ * Large populations are split into contiguous slices evaluated on the shared
+ * ForkJoinPool; small ones stay on the calling thread where forking costs more
+ * than the evaluation itself.
+ */
+public class FitnessEvaluator {
+
+    // Below this many edge evaluations the work is not worth forking
+    private static final long PARALLEL_THRESHOLD = 50_000;
+
+    private final ForkJoinPool pool;
+
+    public FitnessEvaluator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Computes and caches the total distance of every route
+     * 
+     * @param routes Routes to evaluate
+     * @param parallelism Maximum number of worker threads to use
+     */
+    public void evaluate(List<Route> routes, int parallelism) {
+        int size = routes.size();
+        if (size == 0) {
+            return;
+        }
+
+        long work = (long) size * (routes.get(0).size() + 1);
+        if (work < PARALLEL_THRESHOLD) {
+            evaluateRange(routes, 0, size);
+            return;
+        }
+
+        ParallelUtil.forEachRange(pool, parallelism, size, (from, to) -> evaluateRange(routes, from, to));
+    }
+
+    public int getMaxParallelism() {
+        return pool.getParallelism();
+    }
+
+    private static void evaluateRange(List<Route> routes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            routes.get(i).getTotalDistance();
+        }
+    }
+}
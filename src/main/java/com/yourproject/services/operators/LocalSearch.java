@@ -0,0 +1,307 @@
+package com.yourproject.services.operators;
+
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.NeighborLists;
+import com.yourproject.models.Route;
+
+/**
+ * 2-opt and Or-opt local search (memetic improvement step)
+ *
+ * Moves are only tried towards the k nearest cities of each endpoint and a city is
+ * rescanned only after an edge next to it changed (don't-look bits, kept as a work
+ * queue), so a pass over an already good tour is close to linear in n.
+ *
+ * 2-opt reverses a stretch of the tour and is only used on symmetric graphs; Or-opt
+ * moves a segment of up to 3 cities without reversing it (reversed insertion only on
+ * symmetric graphs), so it is valid for directed instances too.
+ */
+public class LocalSearch {
+
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT = 3;
+
+    private static final ThreadLocal<Search> SEARCH = ThreadLocal.withInitial(Search::new);
+
+    /**
+     * Improves a route the caller owns, in place
+     *
+     * @return true if a shorter tour was found
+     */
+    public boolean improve(Route route, NeighborLists neighbors) {
+        Search search = SEARCH.get();
+        search.load(route, neighbors);
+        if (!search.optimize()) {
+            return false;
+        }
+        route.setSegment(0, search.writeBack(search.out));
+        return true;
+    }
+
+    /**
+     * Copy-on-write variant for shared routes
+     *
+     * @return the route itself if it is already a local optimum, otherwise a new improved route
+     */
+    public Route improved(Route route, NeighborLists neighbors) {
+        Search search = SEARCH.get();
+        search.load(route, neighbors);
+        if (!search.optimize()) {
+            return route;
+        }
+        return new Route(route.getGraph(), route.getStartIndex(), search.writeBack(new int[route.size()]));
+    }
+
+    /**
+     * Per-thread search state: the tour as a cycle (start city included) with the
+     * position of each city, plus the queue of cities still to be scanned
+     */
+    private static final class Search {
+        int[] cycle = new int[0];
+        int[] pos = new int[0];
+        int[] out = new int[0];
+        int[] queue = new int[0];
+        boolean[] queued = new boolean[0];
+        int head;
+        int pending;
+
+        CityGraph graph;
+        NeighborLists neighbors;
+        boolean symmetric;
+        int start;
+        int n;
+
+        void load(Route route, NeighborLists neighbors) {
+            this.graph = route.getGraph();
+            this.neighbors = neighbors;
+            this.symmetric = graph.getDistances().isSymmetric();
+            this.start = route.getStartIndex();
+            this.n = route.size() + 1;
+
+            int cities = graph.size();
+            if (cycle.length < n) {
+                cycle = new int[n];
+                queue = new int[n];
+            }
+            if (out.length != n - 1) {
+                out = new int[n - 1];
+            }
+            if (pos.length < cities) {
+                pos = new int[cities];
+                queued = new boolean[cities];
+            }
+
+            cycle[0] = start;
+            System.arraycopy(route.getTour(), 0, cycle, 1, n - 1);
+            for (int i = 0; i < n; i++) {
+                pos[cycle[i]] = i;
+            }
+        }
+
+        boolean optimize() {
+            if (n < 5) {
+                return false; // Com até 4 cidades não há movimento útil
+            }
+
+            head = 0;
+            pending = 0;
+            for (int i = 0; i < n; i++) {
+                queued[cycle[i]] = false;
+            }
+            for (int i = 0; i < n; i++) {
+                push(cycle[i]);
+            }
+
+            boolean improved = false;
+            while (pending > 0) {
+                int city = pop();
+                if ((symmetric && twoOpt(city)) || orOpt(city)) {
+                    improved = true;
+                }
+            }
+            return improved;
+        }
+
+        int[] writeBack(int[] tour) {
+            int offset = pos[start];
+            for (int i = 0; i < tour.length; i++) {
+                tour[i] = cycle[(offset + 1 + i) % n];
+            }
+            return tour;
+        }
+
+        private boolean twoOpt(int a) {
+            for (int direction = 0; direction < 2; direction++) {
+                boolean forward = direction == 0;
+                int b = forward ? next(a) : prev(a);
+                double removed = graph.distance(a, b);
+
+                for (int r = 0; r < neighbors.getK(); r++) {
+                    int c = neighbors.get(a, r);
+                    double added = graph.distance(a, c);
+                    if (added >= removed - EPSILON) {
+                        break; // Vizinhos ordenados: nenhum outro fecha com ganho
+                    }
+
+                    int d = forward ? next(c) : prev(c);
+                    if (c == b || d == a) {
+                        continue;
+                    }
+
+                    double delta = added + graph.distance(b, d) - removed - graph.distance(c, d);
+                    if (delta < -EPSILON) {
+                        // forward: a b .. c d -> a c .. b d ; backward: b a .. d c -> b d .. a c
+                        if (forward) {
+                            reverseShorter(pos[b], pos[c]);
+                        } else {
+                            reverseShorter(pos[a], pos[d]);
+                        }
+                        push(a);
+                        push(b);
+                        push(c);
+                        push(d);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean orOpt(int a) {
+            for (int length = 1; length <= MAX_SEGMENT && length + 3 <= n; length++) {
+                int e = cycle[(pos[a] + length - 1) % n];
+                int p = prev(a);
+                int nx = next(e);
+                double gain = graph.distance(p, a) + graph.distance(e, nx) - graph.distance(p, nx);
+                if (gain <= EPSILON) {
+                    continue;
+                }
+
+                for (int end = 0; end < (length == 1 ? 1 : 2); end++) {
+                    int anchor = end == 0 ? a : e;
+                    for (int r = 0; r < neighbors.getK(); r++) {
+                        int c = neighbors.get(anchor, r);
+                        if (graph.distance(anchor, c) >= gain) {
+                            break;
+                        }
+                        if (inSegment(c, a, length)) {
+                            continue;
+                        }
+
+                        // Inserção ao lado de c, com a junto de c (end 0) ou e junto de c (end 1)
+                        int forwardX = end == 0 ? c : prev(c);
+                        int reversedX = end == 0 ? prev(c) : c;
+                        if (tryInsert(a, e, length, forwardX, false, gain, p, nx)
+                            || (symmetric && tryInsert(a, e, length, reversedX, true, gain, p, nx))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean tryInsert(int a, int e, int length, int x, boolean reversed, double gain, int p, int nx) {
+            int y = next(x);
+            if (inSegment(x, a, length) || inSegment(y, a, length)) {
+                return false;
+            }
+
+            double added = reversed
+                ? graph.distance(x, e) + graph.distance(a, y) - graph.distance(x, y)
+                : graph.distance(x, a) + graph.distance(e, y) - graph.distance(x, y);
+            if (added >= gain - EPSILON) {
+                return false;
+            }
+
+            moveSegment(pos[a], length, x, y);
+            if (reversed) {
+                reverseExact(pos[a], length);
+            }
+            push(p);
+            push(nx);
+            push(a);
+            push(e);
+            push(x);
+            push(y);
+            return true;
+        }
+
+        /**
+         * Moves the segment [s, s + length) between x and y = next(x) by rotating it
+         * with whichever neighboring block is shorter
+         */
+        private void moveSegment(int s, int length, int x, int y) {
+            int after = Math.floorMod(pos[x] - (s + length), n) + 1;
+            int before = Math.floorMod(s - 1 - pos[y], n) + 1;
+
+            if (after <= before) {
+                // [A][B] -> [B][A]
+                reverseExact(s, length);
+                reverseExact((s + length) % n, after);
+                reverseExact(s, length + after);
+            } else {
+                // [C][A] -> [A][C]
+                int c = pos[y];
+                reverseExact(c, before);
+                reverseExact(s, length);
+                reverseExact(c, before + length);
+            }
+        }
+
+        private boolean inSegment(int city, int a, int length) {
+            return Math.floorMod(pos[city] - pos[a], n) < length;
+        }
+
+        /**
+         * Reverses the cyclic stretch from..to, or its complement when that is shorter
+         * (same tour on a symmetric graph)
+         */
+        private void reverseShorter(int from, int to) {
+            int length = Math.floorMod(to - from, n) + 1;
+            if (2 * length > n) {
+                reverseExact((to + 1) % n, n - length);
+            } else {
+                reverseExact(from, length);
+            }
+        }
+
+        private void reverseExact(int from, int length) {
+            for (int k = 0; k < length / 2; k++) {
+                int i = (from + k) % n;
+                int j = (from + length - 1 - k) % n;
+                int ci = cycle[i];
+                int cj = cycle[j];
+                cycle[i] = cj;
+                cycle[j] = ci;
+                pos[cj] = i;
+                pos[ci] = j;
+            }
+        }
+
+        private int next(int city) {
+            int i = pos[city] + 1;
+            return cycle[i == n ? 0 : i];
+        }
+
+        private int prev(int city) {
+            int i = pos[city];
+            return cycle[i == 0 ? n - 1 : i - 1];
+        }
+
+        private void push(int city) {
+            if (!queued[city]) {
+                queued[city] = true;
+                queue[(head + pending) % n] = city;
+                pending++;
+            }
+        }
+
+        private int pop() {
+            int city = queue[head];
+            head = (head + 1) % n;
+            pending--;
+            queued[city] = false;
+            return city;
+        }
+    }
+}
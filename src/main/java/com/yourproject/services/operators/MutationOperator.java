@@ -1,14 +1,18 @@
 package com.yourproject.services.operators;
 
-import com.yourproject.models.City;
 import com.yourproject.models.Route;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Mutation operator for genetic algorithm
  * 
  * Uses swap mutation: randomly selects two cities and swaps their positions
+ *
+ * Mutations go through {@link Route#swap}, {@link Route#reverse} and {@link Route#setSegment},
+ * so a route that was already evaluated keeps its distance up to date from the
+ * changed edges instead of being re-evaluated in full.
  */
 public class MutationOperator {
     
@@ -30,15 +34,42 @@ public class MutationOperator {
      * @return Mutated route (or original if mutation didn't occur)
      */
     public Route mutate(Route route, double mutationRate) {
+        return mutate(route, mutationRate, random);
+    }
+
+    /**
+     * Swap mutation drawing from the given generator (one per breeding worker).
+     * Copy-on-write: the route is only copied when the mutation fires.
+     */
+    public Route mutate(Route route, double mutationRate, RandomGenerator random) {
         if (random.nextDouble() > mutationRate) {
             return route; // No mutation
         }
 
         Route mutated = new Route(route);
-        int size = mutated.size();
+        swapMutation(mutated, random);
+        return mutated;
+    }
+
+    /**
+     * Swap mutation applied to a route the caller owns (e.g. a fresh crossover child)
+     *
+     * @return true if the route was mutated
+     */
+    public boolean mutateInPlace(Route route, double mutationRate, RandomGenerator random) {
+        if (random.nextDouble() > mutationRate) {
+            return false;
+        }
+
+        swapMutation(route, random);
+        return true;
+    }
+
+    private void swapMutation(Route route, RandomGenerator random) {
+        int size = route.size();
 
         if (size < 2) {
-            return mutated; // Can't swap with less than 2 cities
+            return; // Can't swap with less than 2 cities
         }
 
         // Select two different random positions
@@ -51,11 +82,7 @@ public class MutationOperator {
         }
 
         // Swap cities
-        City temp = mutated.getCity(pos1);
-        mutated.setCity(pos1, mutated.getCity(pos2));
-        mutated.setCity(pos2, temp);
-
-        return mutated;
+        route.swap(pos1, pos2);
     }
 
     /**
@@ -63,51 +90,73 @@ public class MutationOperator {
      * Reverses the order of cities between two random points
      */
     public Route inversionMutate(Route route, double mutationRate) {
+        return inversionMutate(route, mutationRate, random);
+    }
+
+    public Route inversionMutate(Route route, double mutationRate, RandomGenerator random) {
         if (random.nextDouble() > mutationRate) {
             return route;
         }
 
         Route mutated = new Route(route);
-        int size = mutated.size();
+        inversionMutation(mutated, random);
+        return mutated;
+    }
+
+    public boolean inversionMutateInPlace(Route route, double mutationRate, RandomGenerator random) {
+        if (random.nextDouble() > mutationRate) {
+            return false;
+        }
+
+        inversionMutation(route, random);
+        return true;
+    }
+
+    private void inversionMutation(Route route, RandomGenerator random) {
+        int size = route.size();
 
         if (size < 2) {
-            return mutated;
+            return;
         }
 
         int pos1 = random.nextInt(size);
         int pos2 = random.nextInt(size);
 
-        if (pos1 > pos2) {
-            int temp = pos1;
-            pos1 = pos2;
-            pos2 = temp;
-        }
-
         // Reverse segment
-        while (pos1 < pos2) {
-            City temp = mutated.getCity(pos1);
-            mutated.setCity(pos1, mutated.getCity(pos2));
-            mutated.setCity(pos2, temp);
-            pos1++;
-            pos2--;
-        }
-
-        return mutated;
+        route.reverse(Math.min(pos1, pos2), Math.max(pos1, pos2));
     }
 
     /**
      * Scramble mutation: randomly shuffles cities in a segment
      */
     public Route scrambleMutate(Route route, double mutationRate) {
+        return scrambleMutate(route, mutationRate, random);
+    }
+
+    public Route scrambleMutate(Route route, double mutationRate, RandomGenerator random) {
         if (random.nextDouble() > mutationRate) {
             return route;
         }
 
         Route mutated = new Route(route);
-        int size = mutated.size();
+        scrambleMutation(mutated, random);
+        return mutated;
+    }
+
+    public boolean scrambleMutateInPlace(Route route, double mutationRate, RandomGenerator random) {
+        if (random.nextDouble() > mutationRate) {
+            return false;
+        }
+
+        scrambleMutation(route, random);
+        return true;
+    }
+
+    private void scrambleMutation(Route route, RandomGenerator random) {
+        int size = route.size();
 
         if (size < 2) {
-            return mutated;
+            return;
         }
 
         int pos1 = random.nextInt(size);
@@ -120,24 +169,20 @@ public class MutationOperator {
         }
 
         // Extract segment
-        City[] segment = new City[pos2 - pos1 + 1];
+        int[] segment = new int[pos2 - pos1 + 1];
         for (int i = 0; i < segment.length; i++) {
-            segment[i] = mutated.getCity(pos1 + i);
+            segment[i] = route.getCityIndex(pos1 + i);
         }
 
         // Shuffle segment
         for (int i = segment.length - 1; i > 0; i--) {
             int j = random.nextInt(i + 1);
-            City temp = segment[i];
+            int temp = segment[i];
             segment[i] = segment[j];
             segment[j] = temp;
         }
 
         // Put back
-        for (int i = 0; i < segment.length; i++) {
-            mutated.setCity(pos1 + i, segment[i]);
-        }
-
-        return mutated;
+        route.setSegment(pos1, segment);
     }
 }
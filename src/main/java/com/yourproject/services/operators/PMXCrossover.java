@@ -1,21 +1,46 @@
 package com.yourproject.services.operators;
 
-import com.yourproject.models.City;
 import com.yourproject.models.Route;
 
-import java.util.*;
+import java.util.Arrays;
 
 /**
  * Partially Mapped Crossover (PMX) operator
- * 
+ *
  * PMX is a crossover operator for permutation-based problems like TSP.
  * It preserves the relative order of cities while allowing genetic mixing.
+ *
+ * Works directly on the ordinal arrays of the parents: membership in the child is
+ * tracked with a per-thread stamp table indexed by city ordinal, so building a child
+ * is O(n) and allocates nothing but the child genome.
  */
 public class PMXCrossover {
 
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * Reusable per-thread buffers. A city is in the current child when
+     * {@code stamp[city] == epoch}; bumping the epoch clears the table in O(1).
+     */
+    private static final class Scratch {
+        int[] stamp = new int[0];
+        int epoch;
+
+        void reset(int cities) {
+            if (stamp.length < cities) {
+                stamp = new int[cities];
+                epoch = 0;
+            }
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                epoch = 1;
+            }
+        }
+    }
+
     /**
      * Performs PMX crossover between two parent routes
-     * 
+     *
      * @param parent1 First parent route
      * @param parent2 Second parent route
      * @param point1 First crossover point
@@ -24,75 +49,62 @@ public class PMXCrossover {
      */
     public static Route[] crossover(Route parent1, Route parent2, int point1, int point2) {
         int size = parent1.size();
-        
+
         // Validate crossover points
         if (point1 >= point2 || point1 < 0 || point2 > size) {
             throw new IllegalArgumentException("Invalid crossover points");
         }
 
+        Scratch scratch = SCRATCH.get();
+
         // Create offspring
-        Route offspring1 = createOffspring(parent1, parent2, point1, point2);
-        Route offspring2 = createOffspring(parent2, parent1, point1, point2);
+        Route offspring1 = createOffspring(parent1, parent2, point1, point2, scratch);
+        Route offspring2 = createOffspring(parent2, parent1, point1, point2, scratch);
 
         return new Route[]{offspring1, offspring2};
     }
 
-    private static Route createOffspring(Route parent1, Route parent2, int point1, int point2) {
-        int size = parent1.size();
-        List<City> cities = new ArrayList<>(Collections.nCopies(size, null));
-        
-        // Copy segment from parent1 to offspring
-        for (int i = point1; i < point2; i++) {
-            cities.set(i, parent1.getCity(i));
-        }
+    private static Route createOffspring(Route parent1, Route parent2, int point1, int point2, Scratch scratch) {
+        int[] donor = parent1.getTour();
+        int[] filler = parent2.getTour();
+        int size = donor.length;
+        int[] child = new int[size];
 
-        // Create mapping from parent2 to parent1 in the crossover segment
-        Map<City, City> mapping = new HashMap<>();
+        scratch.reset(parent1.getGraph().size());
+        int[] stamp = scratch.stamp;
+        int epoch = scratch.epoch;
+
+        // Copy segment from parent1 to offspring
         for (int i = point1; i < point2; i++) {
-            mapping.put(parent2.getCity(i), parent1.getCity(i));
+            child[i] = donor[i];
+            stamp[donor[i]] = epoch;
         }
 
-        // Fill remaining positions from parent2
+        // Fill remaining positions from parent2. A position of parent2 outside the
+        // segment never holds a mapped city, so a conflicting candidate is replaced by
+        // the first city of parent2 not yet in the offspring. That index only moves
+        // forward as the offspring fills up, so one cursor covers the whole pass.
+        int cursor = 0;
         for (int i = 0; i < size; i++) {
-            if (i >= point1 && i < point2) {
-                continue; // Skip already filled segment
+            if (i == point1) {
+                i = point2 - 1; // Skip already filled segment
+                continue;
             }
 
-            City candidate = parent2.getCity(i);
-            
-            // Follow mapping chain if city already exists in offspring
-            while (cities.contains(candidate)) {
-                City mapped = mapping.get(candidate);
-                if (mapped == null) {
-                    // If no mapping exists, this city is not in the crossover segment
-                    // Find any city from parent2 that is not yet in offspring
-                    for (City city : parent2.getCities()) {
-                        if (!cities.contains(city)) {
-                            candidate = city;
-                            break;
-                        }
-                    }
-                    break;
+            int candidate = filler[i];
+            if (stamp[candidate] == epoch) {
+                while (cursor < size && stamp[filler[cursor]] == epoch) {
+                    cursor++;
                 }
-                candidate = mapped;
-            }
-
-            cities.set(i, candidate);
-        }
-
-        // Validate: ensure no null cities
-        for (int i = 0; i < size; i++) {
-            if (cities.get(i) == null) {
-                // Find missing city from parent2
-                for (City city : parent2.getCities()) {
-                    if (!cities.contains(city)) {
-                        cities.set(i, city);
-                        break;
-                    }
+                if (cursor < size) {
+                    candidate = filler[cursor];
                 }
             }
+
+            child[i] = candidate;
+            stamp[candidate] = epoch;
         }
 
-        return new Route(parent1.getStartCity(), cities);
+        return new Route(parent1.getGraph(), parent1.getStartIndex(), child);
     }
 }
@@ -0,0 +1,331 @@
+package com.yourproject.services.operators;
+
+import com.yourproject.models.City;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.NeighborLists;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * Construction heuristics used to seed the initial population
+ *
+ * Each heuristic returns a cycle over all cities of the graph; {@link #toTour} rotates it
+ * to a route's start city. Nearest neighbor and greedy edge only look at the graph's
+ * neighbor lists, falling back to a scan when every listed city is already taken.
+ */
+public class SeedingOperator {
+
+    // Lado da grade da curva de Hilbert: 2^15 células por eixo
+    private static final int HILBERT_SIDE = 1 << 15;
+
+    /**
+     * Nearest-neighbor tour from the given first city
+     */
+    public int[] nearestNeighbor(CityGraph graph, int first) {
+        NeighborLists neighbors = graph.getNeighborLists(CityGraph.DEFAULT_NEIGHBOR_COUNT);
+        int n = graph.size();
+        int[] cycle = new int[n];
+
+        // Não visitadas em unvisited[0, remaining); slot[c] >= remaining marca c como visitada
+        int[] unvisited = new int[n];
+        int[] slot = new int[n];
+        for (int i = 0; i < n; i++) {
+            unvisited[i] = i;
+            slot[i] = i;
+        }
+        int remaining = n;
+
+        int current = first;
+        remaining = take(current, unvisited, slot, remaining);
+        cycle[0] = current;
+
+        for (int step = 1; step < n; step++) {
+            int next = -1;
+            for (int r = 0; r < neighbors.getK(); r++) {
+                int candidate = neighbors.get(current, r);
+                if (slot[candidate] < remaining) {
+                    next = candidate;
+                    break;
+                }
+            }
+            if (next < 0) {
+                double best = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < remaining; i++) {
+                    double d = graph.distance(current, unvisited[i]);
+                    if (d < best) {
+                        best = d;
+                        next = unvisited[i];
+                    }
+                }
+            }
+
+            remaining = take(next, unvisited, slot, remaining);
+            cycle[step] = next;
+            current = next;
+        }
+
+        return cycle;
+    }
+
+    private static int take(int city, int[] unvisited, int[] slot, int remaining) {
+        int last = unvisited[--remaining];
+        int position = slot[city];
+        unvisited[position] = last;
+        slot[last] = position;
+        unvisited[remaining] = city;
+        slot[city] = remaining;
+        return remaining;
+    }
+
+    /**
+     * Greedy edge tour: the shortest candidate edges are added while no city gets a
+     * third edge and no subtour closes; the resulting fragments are chained end to end
+     * by nearest endpoint. Needs a symmetric graph, otherwise nearest neighbor is used.
+     */
+    public int[] greedyEdge(CityGraph graph) {
+        if (!graph.getDistances().isSymmetric()) {
+            return nearestNeighbor(graph, 0);
+        }
+
+        NeighborLists neighbors = graph.getNeighborLists(CityGraph.DEFAULT_NEIGHBOR_COUNT);
+        int n = graph.size();
+        int k = neighbors.getK();
+
+        int[] from = new int[n * k];
+        int[] to = new int[n * k];
+        double[] weight = new double[n * k];
+        int edges = 0;
+        for (int i = 0; i < n; i++) {
+            for (int r = 0; r < k; r++) {
+                int j = neighbors.get(i, r);
+                // Cada aresta uma vez: pela ponta menor, ou pela única lista que a contém
+                if (i < j || !listed(neighbors, j, i)) {
+                    from[edges] = i;
+                    to[edges] = j;
+                    weight[edges] = graph.distance(i, j);
+                    edges++;
+                }
+            }
+        }
+
+        double[] w = weight;
+        int[] order = IntStream.range(0, edges).boxed()
+            .sorted(Comparator.<Integer>comparingDouble(e -> w[e]).thenComparingInt(e -> e))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        int[] adjacent = new int[2 * n];
+        Arrays.fill(adjacent, -1);
+        int[] degree = new int[n];
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+
+        for (int e : order) {
+            int i = from[e];
+            int j = to[e];
+            if (degree[i] < 2 && degree[j] < 2) {
+                int rootI = find(parent, i);
+                int rootJ = find(parent, j);
+                if (rootI != rootJ) {
+                    parent[rootI] = rootJ;
+                    adjacent[2 * i + degree[i]++] = j;
+                    adjacent[2 * j + degree[j]++] = i;
+                }
+            }
+        }
+
+        return chainFragments(graph, adjacent, degree);
+    }
+
+    private static boolean listed(NeighborLists neighbors, int city, int candidate) {
+        for (int r = 0; r < neighbors.getK(); r++) {
+            if (neighbors.get(city, r) == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    /**
+     * Walks the path fragments (every city has degree 0, 1 or 2 and there is no cycle),
+     * jumping from the end of each fragment to the nearest free endpoint
+     */
+    private static int[] chainFragments(CityGraph graph, int[] adjacent, int[] degree) {
+        int n = graph.size();
+        int[] cycle = new int[n];
+
+        int[] ends = new int[n];
+        int[] slot = new int[n];
+        Arrays.fill(slot, -1);
+        int open = 0;
+        for (int i = 0; i < n; i++) {
+            if (degree[i] < 2) {
+                slot[i] = open;
+                ends[open++] = i;
+            }
+        }
+
+        int length = 0;
+        int current = ends[0];
+        while (true) {
+            open = removeEnd(current, ends, slot, open);
+
+            int previous = -1;
+            while (true) {
+                cycle[length++] = current;
+                int next = -1;
+                for (int t = 0; t < degree[current]; t++) {
+                    int candidate = adjacent[2 * current + t];
+                    if (candidate != previous) {
+                        next = candidate;
+                        break;
+                    }
+                }
+                if (next < 0) {
+                    break;
+                }
+                previous = current;
+                current = next;
+            }
+            open = removeEnd(current, ends, slot, open);
+
+            if (open == 0) {
+                break;
+            }
+
+            int nearest = ends[0];
+            double best = graph.distance(current, nearest);
+            for (int i = 1; i < open; i++) {
+                double d = graph.distance(current, ends[i]);
+                if (d < best) {
+                    best = d;
+                    nearest = ends[i];
+                }
+            }
+            current = nearest;
+        }
+
+        return cycle;
+    }
+
+    private static int removeEnd(int city, int[] ends, int[] slot, int open) {
+        int position = slot[city];
+        if (position < 0) {
+            return open; // Fragmento de uma cidade: a mesma ponta já saiu
+        }
+        int last = ends[--open];
+        ends[position] = last;
+        slot[last] = position;
+        slot[city] = -1;
+        return open;
+    }
+
+    /**
+     * Cities ordered along a Hilbert curve laid over their bounding box
+     */
+    public int[] spaceFillingCurve(CityGraph graph) {
+        int n = graph.size();
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            City city = graph.getCity(i);
+            minX = Math.min(minX, city.getX());
+            minY = Math.min(minY, city.getY());
+            maxX = Math.max(maxX, city.getX());
+            maxY = Math.max(maxY, city.getY());
+        }
+        double span = Math.max(maxX - minX, maxY - minY);
+        double scale = span > 0 ? (HILBERT_SIDE - 1) / span : 0.0;
+
+        // Chave = posição na curva (30 bits) << 32 | ordinal
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            City city = graph.getCity(i);
+            int x = (int) ((city.getX() - minX) * scale);
+            int y = (int) ((city.getY() - minY) * scale);
+            keys[i] = (hilbertIndex(x, y) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] cycle = new int[n];
+        for (int i = 0; i < n; i++) {
+            cycle[i] = (int) keys[i];
+        }
+        return cycle;
+    }
+
+    private static long hilbertIndex(int x, int y) {
+        long d = 0;
+        for (int s = HILBERT_SIDE / 2; s > 0; s /= 2) {
+            int rx = (x & s) > 0 ? 1 : 0;
+            int ry = (y & s) > 0 ? 1 : 0;
+            d += (long) s * s * ((3 * rx) ^ ry);
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = HILBERT_SIDE - 1 - x;
+                    y = HILBERT_SIDE - 1 - y;
+                }
+                int temp = x;
+                x = y;
+                y = temp;
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Rotates a cycle over all cities into a route tour (start city excluded)
+     */
+    public int[] toTour(int[] cycle, int start) {
+        int n = cycle.length;
+        int offset = 0;
+        while (cycle[offset] != start) {
+            offset++;
+        }
+
+        int[] tour = new int[n - 1];
+        for (int i = 0; i < tour.length; i++) {
+            tour[i] = cycle[(offset + 1 + i) % n];
+        }
+        return tour;
+    }
+
+    /**
+     * Double-bridge kick (A B C D -> A C B D): a copy of the tour that keeps most of
+     * its edges but cannot be undone by a single 2-opt move
+     */
+    public int[] doubleBridge(int[] tour, RandomGenerator random) {
+        int n = tour.length;
+        if (n < 8) {
+            return tour.clone();
+        }
+
+        int p1 = 1 + random.nextInt(n - 3);
+        int p2 = p1 + 1 + random.nextInt(n - p1 - 2);
+        int p3 = p2 + 1 + random.nextInt(n - p2 - 1);
+
+        int[] kicked = new int[n];
+        int i = 0;
+        System.arraycopy(tour, 0, kicked, i, p1);
+        i += p1;
+        System.arraycopy(tour, p2, kicked, i, p3 - p2);
+        i += p3 - p2;
+        System.arraycopy(tour, p1, kicked, i, p2 - p1);
+        i += p2 - p1;
+        System.arraycopy(tour, p3, kicked, i, n - p3);
+        return kicked;
+    }
+}
@@ -6,6 +6,7 @@ import com.yourproject.models.Route;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Selection operator for genetic algorithm
@@ -32,8 +33,7 @@ public class SelectionOperator {
      * @return List of elite routes
      */
     public List<Route> selectElite(Population population, int eliteCount) {
-        population.sortByFitness();
-        return new ArrayList<>(population.getTopRoutes(eliteCount));
+        return population.getTopRoutes(eliteCount);
     }
 
     /**
@@ -44,14 +44,36 @@ public class SelectionOperator {
      * @return Selected route
      */
     public Route tournamentSelection(Population population, int tournamentSize) {
-        Population tournament = new Population(tournamentSize);
-        
-        for (int i = 0; i < tournamentSize; i++) {
-            int randomIndex = random.nextInt(population.size());
-            tournament.addRoute(population.getRoute(randomIndex));
+        return tournamentSelection(population, tournamentSize, random);
+    }
+
+    /**
+     * Tournament selection drawing from the given generator (one per breeding worker)
+     */
+    public Route tournamentSelection(Population population, int tournamentSize, RandomGenerator random) {
+        return population.getRoute(tournamentIndex(population.getDistances(), tournamentSize, random));
+    }
+
+    /**
+     * Tournament selection by index over precomputed route distances: no tournament
+     * population is built or sorted. Ties go to the contestant drawn first.
+     *
+     * @param distances Distance of each route (see {@link Population#getDistances()})
+     * @param tournamentSize Size of tournament
+     * @param random Random generator of the calling worker
+     * @return Index of the selected route
+     */
+    public int tournamentIndex(double[] distances, int tournamentSize, RandomGenerator random) {
+        int best = random.nextInt(distances.length);
+
+        for (int i = 1; i < tournamentSize; i++) {
+            int contestant = random.nextInt(distances.length);
+            if (distances[contestant] < distances[best]) {
+                best = contestant;
+            }
         }
-        
-        return tournament.getBestRoute();
+
+        return best;
     }
 
     /**
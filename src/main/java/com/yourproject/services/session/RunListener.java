@@ -0,0 +1,16 @@
+package com.yourproject.services.session;
+
+import com.yourproject.models.GenerationResult;
+
+/**
+ * Receives the generations of a run as they are produced
+ * 
+ * Callbacks run on the thread evolving the run, outside the session lock.
+ */
+public interface RunListener {
+
+    void onGeneration(RunSession session, GenerationResult result);
+
+    default void onFinished(RunSession session) {
+    }
+}
@@ -0,0 +1,208 @@
+package com.yourproject.services.session;
+
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GAExecutionResult;
+import com.yourproject.models.GenerationHistory;
+import com.yourproject.models.GenerationResult;
+import com.yourproject.models.HistoryStats;
+import com.yourproject.models.Population;
+import com.yourproject.models.RunStatus;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * State of one GA run: its graph snapshot, configuration, population, RNG and history
+ * 
+ * Mutations (breeding a generation) and reads of the population synchronize on the
+ * session, so each run is evolved by one thread at a time while different runs
+ * proceed independently. Progress fields are volatile so job status can be polled
+ * without waiting for the current generation.
+ */
+public class RunSession {
+    private final String id;
+    private final CityGraph graph;
+    private final GAConfig config;
+    private final SplittableRandom random;
+    private final List<RunListener> listeners = new CopyOnWriteArrayList<>();
+    private final long createdAt;
+    private final LongAdder evaluations = new LongAdder();
+
+    private Population population;
+    private GenerationHistory history;
+    private volatile long lastAccessedAt;
+    private volatile boolean running;
+
+    private volatile RunStatus status = RunStatus.CREATED;
+    private volatile boolean cancelRequested;
+    private volatile GenerationResult latestResult;
+    private volatile GAExecutionResult result;
+    private volatile String error;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    public RunSession(String id, CityGraph graph, GAConfig config) {
+        this.id = id;
+        this.graph = graph;
+        this.config = config;
+        this.random = config.getSeed() != null ? new SplittableRandom(config.getSeed()) : new SplittableRandom();
+        this.history = GenerationHistory.of(config);
+        this.createdAt = System.currentTimeMillis();
+        this.lastAccessedAt = createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Counts full route evaluations (islands breed concurrently, hence the adder)
+     */
+    public void addEvaluations(long count) {
+        evaluations.add(count);
+    }
+
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    public CityGraph getGraph() {
+        return graph;
+    }
+
+    public GAConfig getConfig() {
+        return config;
+    }
+
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
+    public synchronized Population getPopulation() {
+        return population;
+    }
+
+    public synchronized void setPopulation(Population population) {
+        this.population = population;
+    }
+
+    public synchronized void addHistory(GenerationResult result) {
+        history.record(result);
+    }
+
+    /**
+     * Stops retaining generations (streamed runs deliver them to listeners instead)
+     */
+    public synchronized void disableHistory() {
+        history = GenerationHistory.none();
+    }
+
+    public synchronized List<GenerationResult> getHistory() {
+        return history.getEntries();
+    }
+
+    public synchronized HistoryStats getHistoryStats() {
+        return history.getStats();
+    }
+
+    public void addListener(RunListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(RunListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void publish(GenerationResult result) {
+        for (RunListener listener : listeners) {
+            listener.onGeneration(this, result);
+        }
+    }
+
+    public void publishFinished() {
+        for (RunListener listener : listeners) {
+            listener.onFinished(this);
+        }
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    public RunStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RunStatus status) {
+        this.status = status;
+        if (status == RunStatus.RUNNING) {
+            startedAt = System.currentTimeMillis();
+        } else if (status.isFinished()) {
+            finishedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Asks the run to stop after the generation in progress
+     */
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public GenerationResult getLatestResult() {
+        return latestResult;
+    }
+
+    public void setLatestResult(GenerationResult latestResult) {
+        this.latestResult = latestResult;
+    }
+
+    public GAExecutionResult getResult() {
+        return result;
+    }
+
+    public void setResult(GAExecutionResult result) {
+        this.result = result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    /**
+     * @return time spent running so far, or the total once finished
+     */
+    public long getElapsedMs() {
+        if (startedAt == 0) {
+            return 0;
+        }
+        return (finishedAt != 0 ? finishedAt : System.currentTimeMillis()) - startedAt;
+    }
+
+    public void touch() {
+        lastAccessedAt = System.currentTimeMillis();
+    }
+}
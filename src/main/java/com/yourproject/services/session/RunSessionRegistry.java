@@ -0,0 +1,151 @@
+package com.yourproject.services.session;
+
+import com.yourproject.errors.NotFoundException;
+import com.yourproject.errors.TooManyRequestsException;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.RunStatus;
+import com.yourproject.services.BaseService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Registry of GA run sessions
+ * 
+ * Keeps at most {@code max-sessions} sessions in memory (idle ones are evicted after
+ * {@code idle-timeout}, the least recently used one when full) and lets at most
+ * {@code max-concurrent-runs} of them compute at the same time.
+ */
+@Component
+public class RunSessionRegistry extends BaseService {
+
+    private final Map<String, RunSession> sessions = new ConcurrentHashMap<>();
+    private final Semaphore runPermits;
+    private final int maxSessions;
+    private final long idleTimeoutMs;
+    private volatile RunSession latest;
+
+    public RunSessionRegistry(
+            @Value("${app.ga.sessions.max-sessions:64}") int maxSessions,
+            @Value("${app.ga.sessions.max-concurrent-runs:4}") int maxConcurrentRuns,
+            @Value("${app.ga.sessions.idle-timeout:30m}") Duration idleTimeout) {
+        this.maxSessions = maxSessions;
+        this.runPermits = new Semaphore(maxConcurrentRuns);
+        this.idleTimeoutMs = idleTimeout.toMillis();
+    }
+
+    public synchronized RunSession create(CityGraph graph, GAConfig config) {
+        if (sessions.size() >= maxSessions) {
+            evictIdle();
+        }
+        if (sessions.size() >= maxSessions) {
+            sessions.values().stream()
+                .filter(session -> !isActive(session))
+                .min(Comparator.comparingLong(RunSession::getLastAccessedAt))
+                .ifPresent(session -> remove(session.getId()));
+        }
+        if (sessions.size() >= maxSessions) {
+            throw new TooManyRequestsException("Limite de execuções simultâneas atingido: " + maxSessions);
+        }
+
+        RunSession session = new RunSession(UUID.randomUUID().toString(), graph, config);
+        sessions.put(session.getId(), session);
+        latest = session;
+        return session;
+    }
+
+    /**
+     * @param runId Run ID, or null for the most recently created run
+     */
+    public RunSession get(String runId) {
+        RunSession session = runId == null ? latest : sessions.get(runId);
+        if (session == null) {
+            throw runId == null
+                ? new IllegalStateException("Population not initialized. Call /initialize or /run first.")
+                : new NotFoundException("Execução não encontrada: " + runId);
+        }
+        session.touch();
+        return session;
+    }
+
+    public RunSession find(String runId) {
+        RunSession session = runId == null ? latest : sessions.get(runId);
+        if (session != null) {
+            session.touch();
+        }
+        return session;
+    }
+
+    public void remove(String runId) {
+        RunSession removed = sessions.remove(runId);
+        if (removed != null && removed == latest) {
+            latest = null;
+        }
+    }
+
+    /**
+     * Runs compute-heavy work for a session while holding one of the concurrent-run permits,
+     * failing with 429 if none is free
+     */
+    public <T> T execute(RunSession session, Supplier<T> work) {
+        if (!runPermits.tryAcquire()) {
+            throw new TooManyRequestsException("Muitas execuções em andamento, tente novamente mais tarde");
+        }
+        return runWithPermit(session, work);
+    }
+
+    /**
+     * Same as {@link #execute} but waits for a permit (used by background jobs)
+     */
+    public <T> T executeWhenAvailable(RunSession session, Supplier<T> work) throws InterruptedException {
+        runPermits.acquire();
+        return runWithPermit(session, work);
+    }
+
+    private <T> T runWithPermit(RunSession session, Supplier<T> work) {
+        session.setRunning(true);
+        try {
+            return work.get();
+        } finally {
+            session.setRunning(false);
+            session.touch();
+            runPermits.release();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ga.sessions.eviction-interval:60s}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMs;
+        sessions.values().removeIf(session -> {
+            boolean expired = !isActive(session) && session.getLastAccessedAt() < cutoff;
+            if (expired) {
+                logger.debug("Sessão {} removida por inatividade", session.getId());
+            }
+            return expired;
+        });
+        if (latest != null && !sessions.containsKey(latest.getId())) {
+            latest = null;
+        }
+    }
+
+    private static boolean isActive(RunSession session) {
+        return session.isRunning() || session.getStatus() == RunStatus.QUEUED || session.getStatus() == RunStatus.RUNNING;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public int getActiveRuns() {
+        return (int) sessions.values().stream().filter(RunSession::isRunning).count();
+    }
+}
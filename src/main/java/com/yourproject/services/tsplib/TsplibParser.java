@@ -0,0 +1,463 @@
+package com.yourproject.services.tsplib;
+
+import com.yourproject.models.City;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.DistanceMatrix;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Streaming reader of TSPLIB 95 .tsp / .atsp files
+ *
+ * The specification part is read line by line; the data sections are tokenized straight
+ * from a byte buffer into the coordinate and weight arrays that back the graph, so large
+ * instances load without per-line strings or intermediate city maps.
+ *
+ * Supported: TYPE TSP and ATSP; EDGE_WEIGHT_TYPE EUC_2D, CEIL_2D, ATT, GEO and EXPLICIT
+ * (FULL_MATRIX, UPPER_ROW, LOWER_ROW, UPPER_DIAG_ROW, LOWER_DIAG_ROW); sections
+ * NODE_COORD_SECTION, EDGE_WEIGHT_SECTION and DISPLAY_DATA_SECTION. Node n becomes the
+ * city with id "n" and ordinal n - 1.
+ */
+public final class TsplibParser {
+
+    /**
+     * @param name           NAME of the instance (empty if absent)
+     * @param type           TSP or ATSP
+     * @param edgeWeightType how the distances were given
+     * @param hasCoordinates false when an EXPLICIT instance has neither NODE_COORD_SECTION
+     *                       nor DISPLAY_DATA_SECTION: its cities are all placed at (0, 0)
+     */
+    public record Instance(String name, String type, String edgeWeightType, CityGraph graph, boolean hasCoordinates) {}
+
+    // Uma execução mantém ao menos duas populações de 100 rotas (800 bytes por cidade):
+    // acima de 1M de cidades nenhuma execução cabe num heap comum
+    public static final int MAX_DIMENSION = 1_000_000;
+
+    // Vetores de leitura começam pequenos e crescem com os dados, não com o DIMENSION declarado
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int line = 1;
+    private char[] token = new char[32];
+
+    private String name = "";
+    private String type = "TSP";
+    private String edgeWeightType;
+    private String edgeWeightFormat;
+    private int dimension = -1;
+    private double[] x;
+    private double[] y;
+    private boolean hasNodeCoordinates;
+    private boolean hasDisplayCoordinates;
+    private double[] weights;
+
+    private TsplibParser(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads one instance (the stream is not closed)
+     *
+     * @throws IllegalArgumentException if the file is malformed or uses an unsupported feature
+     */
+    public static Instance parse(InputStream in) throws IOException {
+        return new TsplibParser(in).readInstance();
+    }
+
+    private Instance readInstance() throws IOException {
+        String header;
+        while ((header = nextLine()) != null) {
+            if (header.isEmpty()) {
+                continue;
+            }
+            int colon = header.indexOf(':');
+            String key = (colon >= 0 ? header.substring(0, colon) : header).trim();
+            String value = colon >= 0 ? header.substring(colon + 1).trim() : "";
+
+            switch (key) {
+                case "EOF" -> {
+                    return build();
+                }
+                case "NAME" -> name = value;
+                case "TYPE" -> type = parseType(value);
+                case "DIMENSION" -> dimension = parseDimension(value);
+                case "EDGE_WEIGHT_TYPE" -> edgeWeightType = parseEdgeWeightType(value);
+                case "EDGE_WEIGHT_FORMAT" -> edgeWeightFormat = parseEdgeWeightFormat(value);
+                case "NODE_COORD_TYPE" -> {
+                    if (value.equals("THREED_COORDS")) {
+                        throw error("coordenadas 3D não suportadas");
+                    }
+                }
+                case "COMMENT", "DISPLAY_DATA_TYPE", "CAPACITY" -> {
+                    // Informativos
+                }
+                case "NODE_COORD_SECTION" -> {
+                    readCoordinates(true);
+                    hasNodeCoordinates = true;
+                }
+                case "DISPLAY_DATA_SECTION" -> {
+                    readCoordinates(!hasNodeCoordinates);
+                    hasDisplayCoordinates = true;
+                }
+                case "EDGE_WEIGHT_SECTION" -> readWeights();
+                default -> throw error(key.endsWith("_SECTION")
+                    ? "seção não suportada: " + key
+                    : "linha não reconhecida: " + header);
+            }
+        }
+        return build();
+    }
+
+    private String parseType(String value) {
+        // Alguns arquivos anotam o tipo, ex.: "TSP (M.~Hofmeister)"
+        String first = value.split("\\s+")[0];
+        if (!first.equals("TSP") && !first.equals("ATSP")) {
+            throw error("TYPE não suportado: " + value);
+        }
+        return first;
+    }
+
+    private int parseDimension(String value) {
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw error("DIMENSION inválida: " + value);
+        }
+        if (parsed < 2 || parsed > MAX_DIMENSION) {
+            throw error("DIMENSION deve estar entre 2 e " + MAX_DIMENSION + ": " + value);
+        }
+        return parsed;
+    }
+
+    private String parseEdgeWeightType(String value) {
+        return switch (value) {
+            case "EUC_2D", "CEIL_2D", "ATT", "GEO", "EXPLICIT" -> value;
+            default -> throw error("EDGE_WEIGHT_TYPE não suportado: " + value);
+        };
+    }
+
+    private String parseEdgeWeightFormat(String value) {
+        return switch (value) {
+            // FUNCTION: distâncias dadas pelas coordenadas
+            case "FULL_MATRIX", "UPPER_ROW", "LOWER_ROW", "UPPER_DIAG_ROW", "LOWER_DIAG_ROW", "FUNCTION" -> value;
+            default -> throw error("EDGE_WEIGHT_FORMAT não suportado: " + value);
+        };
+    }
+
+    /**
+     * Reads DIMENSION lines of "node x y", in any node order. The lines are buffered in
+     * arrival order and only placed by node once all of them arrived, so the memory
+     * grows with the data read rather than with the declared DIMENSION.
+     *
+     * @param store false to validate and skip (display data when node coordinates exist)
+     */
+    private void readCoordinates(boolean store) throws IOException {
+        requireDimension();
+        int[] nodes = new int[Math.min(dimension, INITIAL_CAPACITY)];
+        double[] nodeX = new double[nodes.length];
+        double[] nodeY = new double[nodes.length];
+        for (int i = 0; i < dimension; i++) {
+            int node = nextInt();
+            if (node < 1 || node > dimension) {
+                throw error("nó fora do intervalo 1.." + dimension + ": " + node);
+            }
+            if (i == nodes.length) {
+                int capacity = grow(i, dimension);
+                nodes = Arrays.copyOf(nodes, capacity);
+                nodeX = Arrays.copyOf(nodeX, capacity);
+                nodeY = Arrays.copyOf(nodeY, capacity);
+            }
+            nodes[i] = node;
+            nodeX[i] = nextDouble();
+            nodeY[i] = nextDouble();
+        }
+
+        boolean[] seen = new boolean[dimension];
+        for (int node : nodes) {
+            if (seen[node - 1]) {
+                throw error("nó repetido: " + node);
+            }
+            seen[node - 1] = true;
+        }
+        if (store) {
+            x = new double[dimension];
+            y = new double[dimension];
+            for (int i = 0; i < dimension; i++) {
+                x[nodes[i] - 1] = nodeX[i];
+                y[nodes[i] - 1] = nodeY[i];
+            }
+        }
+    }
+
+    /**
+     * Next capacity of a read buffer holding size values out of at most max
+     */
+    private static int grow(int size, int max) {
+        return (int) Math.min(max, Math.max(INITIAL_CAPACITY, 2L * size));
+    }
+
+    private void readWeights() throws IOException {
+        requireDimension();
+        if (!"EXPLICIT".equals(edgeWeightType)) {
+            throw error("EDGE_WEIGHT_SECTION requer EDGE_WEIGHT_TYPE: EXPLICIT");
+        }
+        if (edgeWeightFormat == null || edgeWeightFormat.equals("FUNCTION")) {
+            throw error("EDGE_WEIGHT_SECTION requer EDGE_WEIGHT_FORMAT");
+        }
+        if (dimension > DistanceMatrix.MAX_EXPLICIT_SIZE) {
+            throw error("matriz explícita limitada a " + DistanceMatrix.MAX_EXPLICIT_SIZE + " nós: " + dimension);
+        }
+
+        int n = dimension;
+        long expected = switch (edgeWeightFormat) {
+            case "FULL_MATRIX" -> (long) n * n;
+            case "UPPER_ROW", "LOWER_ROW" -> (long) n * (n - 1) / 2;
+            default -> (long) n * (n + 1) / 2;
+        };
+        // Lê os valores antes de alocar a matriz: um cabeçalho sozinho não aloca n²
+        double[] values = new double[(int) Math.min(expected, INITIAL_CAPACITY)];
+        for (int v = 0; v < expected; v++) {
+            if (v == values.length) {
+                values = Arrays.copyOf(values, grow(v, (int) expected));
+            }
+            values[v] = nextWeight();
+        }
+
+        if (edgeWeightFormat.equals("FULL_MATRIX")) {
+            // Os valores já são a matriz. A diagonal costuma trazer um valor "infinito":
+            // a distância de uma cidade a ela mesma é 0
+            weights = values;
+            for (int i = 0; i < n; i++) {
+                weights[i * n + i] = 0.0;
+            }
+            return;
+        }
+
+        weights = new double[n * n];
+        int v = 0;
+        switch (edgeWeightFormat) {
+            case "UPPER_ROW" -> {
+                for (int i = 0; i < n; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        setSymmetric(i, j, values[v++]);
+                    }
+                }
+            }
+            case "LOWER_ROW" -> {
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < i; j++) {
+                        setSymmetric(i, j, values[v++]);
+                    }
+                }
+            }
+            case "UPPER_DIAG_ROW" -> {
+                for (int i = 0; i < n; i++) {
+                    for (int j = i; j < n; j++) {
+                        setSymmetric(i, j, values[v++]);
+                    }
+                }
+            }
+            case "LOWER_DIAG_ROW" -> {
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j <= i; j++) {
+                        setSymmetric(i, j, values[v++]);
+                    }
+                }
+            }
+            default -> throw new IllegalStateException(edgeWeightFormat);
+        }
+    }
+
+    private void setSymmetric(int i, int j, double weight) {
+        if (i != j) {
+            weights[i * dimension + j] = weight;
+            weights[j * dimension + i] = weight;
+        }
+    }
+
+    private double nextWeight() throws IOException {
+        double weight = nextDouble();
+        if (weight < 0 || Double.isNaN(weight)) {
+            throw error("distância inválida: " + weight);
+        }
+        return weight;
+    }
+
+    private void requireDimension() {
+        if (dimension < 0) {
+            throw error("DIMENSION deve vir antes das seções de dados");
+        }
+    }
+
+    private Instance build() {
+        if (dimension < 0) {
+            throw error("DIMENSION ausente");
+        }
+        if (edgeWeightType == null) {
+            throw error("EDGE_WEIGHT_TYPE ausente");
+        }
+
+        DistanceMatrix distances;
+        if (edgeWeightType.equals("EXPLICIT")) {
+            if (weights == null) {
+                throw error("EDGE_WEIGHT_SECTION ausente");
+            }
+            distances = DistanceMatrix.fromArray(dimension, weights);
+        } else {
+            if (!hasNodeCoordinates) {
+                throw error("NODE_COORD_SECTION ausente");
+            }
+            distances = DistanceMatrix.fromCoordinates(x, y, DistanceMatrix.Metric.valueOf(edgeWeightType));
+        }
+
+        // Sem seção de coordenadas (só possível em EXPLICIT) as cidades ficam em (0, 0): sinalizado na instância
+        boolean hasCoordinates = hasNodeCoordinates || hasDisplayCoordinates;
+        City[] cities = new City[dimension];
+        for (int i = 0; i < dimension; i++) {
+            String id = Integer.toString(i + 1);
+            cities[i] = hasCoordinates ? new City(id, id, x[i], y[i]) : new City(id, id, 0, 0);
+        }
+
+        return new Instance(name, type, edgeWeightType, CityGraph.of(cities, distances), hasCoordinates);
+    }
+
+    /**
+     * @return the next line without surrounding whitespace, or null at the end of the stream
+     */
+    private String nextLine() throws IOException {
+        int c = read();
+        if (c < 0) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        while (c >= 0 && c != '\n') {
+            sb.append((char) c);
+            c = read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return new String(sb.toString().getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Reads the next whitespace-delimited token into the scratch buffer
+     *
+     * @return its length
+     */
+    private int nextToken() throws IOException {
+        int c = read();
+        while (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+            if (c == '\n') {
+                line++;
+            }
+            c = read();
+        }
+        if (c < 0) {
+            throw error("fim inesperado do arquivo");
+        }
+
+        int length = 0;
+        while (c > ' ') {
+            if (length == token.length) {
+                if (length >= 1024) {
+                    throw error("valor muito longo");
+                }
+                char[] grown = new char[length * 2];
+                System.arraycopy(token, 0, grown, 0, length);
+                token = grown;
+            }
+            token[length++] = (char) c;
+            c = read();
+        }
+        if (c >= 0) {
+            position--; // O separador fica para a próxima leitura (contagem de linhas)
+        }
+        return length;
+    }
+
+    private int nextInt() throws IOException {
+        int length = nextToken();
+        int i = token[0] == '+' || token[0] == '-' ? 1 : 0;
+        if (i == length) {
+            throw error("inteiro inválido: " + new String(token, 0, length));
+        }
+        long value = 0;
+        for (; i < length; i++) {
+            char c = token[i];
+            if (c < '0' || c > '9' || value > Integer.MAX_VALUE) {
+                throw error("inteiro inválido: " + new String(token, 0, length));
+            }
+            value = value * 10 + (c - '0');
+        }
+        return (int) (token[0] == '-' ? -value : value);
+    }
+
+    private double nextDouble() throws IOException {
+        int length = nextToken();
+
+        // Caminho rápido: até 15 dígitos e nenhum expoente, exato como Double.parseDouble
+        // (mantissa e 10^escala representáveis, uma única divisão arredondada)
+        boolean negative = token[0] == '-';
+        int i = negative || token[0] == '+' ? 1 : 0;
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean dot = false;
+        boolean simple = i < length;
+        for (; i < length && simple; i++) {
+            char c = token[i];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (dot) {
+                    scale++;
+                }
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                simple = false;
+            }
+        }
+        if (simple && digits > 0 && digits <= 15) {
+            double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+
+        String text = new String(token, 0, length);
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw error("número inválido: " + text);
+        }
+    }
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++] & 0xff;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Arquivo TSPLIB inválido (linha " + line + "): " + message);
+    }
+}
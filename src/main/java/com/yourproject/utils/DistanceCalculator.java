@@ -1,101 +1,98 @@
 package com.yourproject.utils;
 
 import com.yourproject.models.City;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
- * Calculadora de distâncias usando matriz do grafo real
+ * Funções de distância entre coordenadas
+ *
+ * As distâncias de um grafo são resolvidas uma única vez em
+ * {@link com.yourproject.models.DistanceMatrix}; esta classe só contém as métricas.
  */
 public class DistanceCalculator {
-    private static final Map<String, Integer> cityIndexMap = new HashMap<>();
-    private static final double[][] distanceMatrix;
-    private static final double INFINITY = 999999.0; // Rotas impossíveis
-    
-    static {
-        // Mapear cidades para índices
-        cityIndexMap.put("F", 0);
-        cityIndexMap.put("G", 1);
-        cityIndexMap.put("H", 2);
-        cityIndexMap.put("E", 3);
-        cityIndexMap.put("K", 4);
-        cityIndexMap.put("N", 5);
-        cityIndexMap.put("C", 6);
-        cityIndexMap.put("L", 7);
-        
-        // Matriz de distâncias do grafo real
-        // Baseada nas arestas: F-N:30, F-C:20, F-L:10, F-G:55, etc.
-        distanceMatrix = new double[8][8];
-        
-        // Inicializar tudo com INFINITY (sem conexão)
-        for (int i = 0; i < 8; i++) {
-            for (int j = 0; j < 8; j++) {
-                distanceMatrix[i][j] = (i == j) ? 0 : INFINITY;
-            }
-        }
-        
-        // Adicionar arestas reais (grafo não-direcionado, então [i][j] = [j][i])
-        addEdge("F", "N", 30);
-        addEdge("F", "C", 20);
-        addEdge("F", "L", 10);
-        addEdge("F", "G", 55);
-        
-        addEdge("N", "C", 47);
-        addEdge("N", "K", 60);
-        
-        addEdge("C", "K", 70);
-        addEdge("C", "E", 10);
-        addEdge("C", "H", 30);
-        addEdge("C", "L", 10);
-        
-        addEdge("K", "E", 10);
-        addEdge("K", "G", 90);
-        addEdge("K", "H", 73);
-        
-        addEdge("E", "H", 60);
-        addEdge("E", "G", 40);
-        addEdge("E", "L", 5);
-        
-        addEdge("H", "G", 80);
-        addEdge("H", "L", 40);
-    }
-    
-    private static void addEdge(String city1, String city2, double distance) {
-        int i1 = cityIndexMap.get(city1);
-        int i2 = cityIndexMap.get(city2);
-        distanceMatrix[i1][i2] = distance;
-        distanceMatrix[i2][i1] = distance;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // Constantes do TSPLIB 95 (GEO), mantidas para reproduzir os ótimos publicados
+    private static final double TSPLIB_PI = 3.141592;
+    private static final double TSPLIB_EARTH_RADIUS_KM = 6378.388;
+
+    private DistanceCalculator() {
+        throw new AssertionError("Cannot instantiate utility class");
     }
-    
+
     /**
-     * Calcula distância entre duas cidades usando a matriz do grafo
+     * Distância euclidiana entre duas cidades
      */
     public static double getDistance(City city1, City city2) {
         if (city1 == null || city2 == null) {
             throw new IllegalArgumentException("Cities cannot be null. city1=" + city1 + ", city2=" + city2);
         }
-        
-        Integer i1 = cityIndexMap.get(city1.getId());
-        Integer i2 = cityIndexMap.get(city2.getId());
-        
-        if (i1 == null || i2 == null) {
-            return INFINITY;
-        }
-        
-        return distanceMatrix[i1][i2];
+        return euclidean(city1.getX(), city1.getY(), city2.getX(), city2.getY());
+    }
+
+    public static double euclidean(double x1, double y1, double x2, double y2) {
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Distância de grande círculo em km, com x = longitude e y = latitude (graus)
+     */
+    public static double haversine(double lon1, double lat1, double lon2, double lat2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * TSPLIB EUC_2D: distância euclidiana arredondada para o inteiro mais próximo
+     */
+    public static double euc2d(double x1, double y1, double x2, double y2) {
+        return (int) (euclidean(x1, y1, x2, y2) + 0.5);
     }
-    
+
     /**
-     * Verifica se existe conexão direta entre duas cidades
+     * TSPLIB CEIL_2D: distância euclidiana arredondada para cima
      */
-    public static boolean hasDirectConnection(City city1, City city2) {
-        return getDistance(city1, city2) < INFINITY;
+    public static double ceil2d(double x1, double y1, double x2, double y2) {
+        return Math.ceil(euclidean(x1, y1, x2, y2));
     }
-    
+
+    /**
+     * TSPLIB ATT: distância pseudo-euclidiana
+     */
+    public static double att(double x1, double y1, double x2, double y2) {
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        double r = Math.sqrt((dx * dx + dy * dy) / 10.0);
+        int t = (int) (r + 0.5);
+        return t < r ? t + 1 : t;
+    }
+
+    /**
+     * TSPLIB GEO: distância em km com x = latitude e y = longitude no formato DDD.MM
+     */
+    public static double geo(double lat1, double lon1, double lat2, double lon2) {
+        double latitude1 = geoRadians(lat1);
+        double longitude1 = geoRadians(lon1);
+        double latitude2 = geoRadians(lat2);
+        double longitude2 = geoRadians(lon2);
+        double q1 = Math.cos(longitude1 - longitude2);
+        double q2 = Math.cos(latitude1 - latitude2);
+        double q3 = Math.cos(latitude1 + latitude2);
+        return (int) (TSPLIB_EARTH_RADIUS_KM * Math.acos(0.5 * ((1.0 + q1) * q2 - (1.0 - q1) * q3)) + 1.0);
+    }
+
     /**
-     * Retorna a distância mínima teórica possível (soma das menores arestas)
+     * Coordenada TSPLIB GEO (DDD.MM) em radianos
      */
-    public static double getTheoreticalMinimum() {        
-        return 10 + 5 + 10 + 10 + 10 + 30 + 40; // Exemplo aproximado
+    public static double geoRadians(double value) {
+        // Graus truncados (como no código de referência do TSPLIB), minutos na parte fracionária
+        int degrees = (int) value;
+        double minutes = value - degrees;
+        return TSPLIB_PI * (degrees + 5.0 * minutes / 3.0) / 180.0;
     }
 }
@@ -0,0 +1,34 @@
+package com.yourproject.utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class ParallelUtil {
+    private ParallelUtil() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    @FunctionalInterface
+    public interface RangeTask {
+        void run(int from, int to);
+    }
+
+    /**
+     * Splits [0, count) into at most {@code parallelism} contiguous ranges and runs them
+     * on the pool, returning once every range is done. Runs inline when only one range
+     * would be used.
+     */
+    public static void forEachRange(ForkJoinPool pool, int parallelism, int count, RangeTask task) {
+        int slices = Math.min(Math.min(parallelism, pool.getParallelism()), count);
+        if (slices <= 1) {
+            if (count > 0) {
+                task.run(0, count);
+            }
+            return;
+        }
+
+        pool.submit(() -> IntStream.range(0, slices).parallel().forEach(slice ->
+            task.run((int) ((long) count * slice / slices), (int) ((long) count * (slice + 1) / slices))
+        )).join();
+    }
+}
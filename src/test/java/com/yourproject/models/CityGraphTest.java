@@ -0,0 +1,62 @@
+package com.yourproject.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CityGraphTest {
+
+    private final List<City> cities = List.of(
+        new City("A", "A", 0, 0),
+        new City("B", "B", 0, 0),
+        new City("C", "C", 0, 0));
+
+    @Test
+    public void testWithEdgesResolvesCityIds() {
+        CityGraph graph = CityGraph.withEdges(cities, List.of(new Edge("A", "C", 9), new Edge("C", "B", 2)), true);
+
+        assertEquals(3, graph.size());
+        assertEquals(2, graph.indexOf("C"));
+        assertEquals(-1, graph.indexOf("Z"));
+        assertEquals(9.0, graph.distance(0, 2));
+        assertEquals(DistanceMatrix.UNREACHABLE, graph.distance(2, 0));
+        assertEquals(2.0, graph.distance(2, 1));
+        assertFalse(graph.getDistances().isSymmetric());
+    }
+
+    @Test
+    public void testFingerprintDependsOnDistances() {
+        CityGraph first = CityGraph.withEdges(cities, List.of(new Edge("A", "B", 1)), false);
+        CityGraph same = CityGraph.withEdges(cities, List.of(new Edge("A", "B", 1)), false);
+        CityGraph other = CityGraph.withEdges(cities, List.of(new Edge("A", "B", 2)), false);
+
+        assertEquals(first.getFingerprint(), same.getFingerprint());
+        assertNotEquals(first.getFingerprint(), other.getFingerprint());
+    }
+
+    @Test
+    public void testFingerprintDependsOnFullCityIds() {
+        // "Aa" e "BB" têm o mesmo String.hashCode()
+        CityGraph first = CityGraph.of(List.of(new City("Aa", "x", 0, 0), new City("C", "y", 1, 1)));
+        CityGraph second = CityGraph.of(List.of(new City("BB", "x", 0, 0), new City("C", "y", 1, 1)));
+        CityGraph split = CityGraph.of(List.of(new City("A", "x", 0, 0), new City("aC", "y", 1, 1)));
+        CityGraph joined = CityGraph.of(List.of(new City("Aa", "x", 0, 0), new City("C", "y", 1, 1)));
+
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(first.getFingerprint(), second.getFingerprint());
+        assertNotEquals(split.getFingerprint(), joined.getFingerprint());
+    }
+
+    @Test
+    public void testInvalidGraphsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> CityGraph.withEdges(cities, List.of(new Edge("A", "Z", 1)), false));
+        assertThrows(IllegalArgumentException.class,
+            () -> CityGraph.of(List.of(new City("A", "A", 0, 0), new City("A", "A2", 1, 1))));
+    }
+}
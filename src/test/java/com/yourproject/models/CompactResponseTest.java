@@ -0,0 +1,56 @@
+package com.yourproject.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CompactResponseTest {
+
+    @Test
+    public void testRoutesBecomeOrdinalsIntoCityTable() {
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            cities.add(new City("C" + i, "City " + i, i * 10, i % 2));
+        }
+        CityGraph graph = CityGraph.of(cities);
+        Route best = new Route(graph, 2, new int[] {0, 4, 1, 5, 3});
+        Route other = new Route(graph, 2, new int[] {5, 4, 3, 1, 0});
+        GenerationResult generation = new GenerationResult(7, best, best.getTotalDistance(),
+            0.0, other.getTotalDistance(), List.of(best, other));
+
+        CompactResponse compact = CompactResponse.of(List.of(generation));
+
+        assertEquals(6, compact.cities().size());
+        @SuppressWarnings("unchecked")
+        CompactGenerationResult result = ((List<CompactGenerationResult>) compact.result()).get(0);
+        assertEquals(7, result.generation());
+        assertEquals(2, result.topRoutes().size());
+
+        CompactRoute route = result.bestRoute();
+        assertEquals(best.getTotalDistance(), route.distance());
+        List<String> names = new ArrayList<>();
+        names.add(compact.cities().get(route.start()).getName());
+        for (int ordinal : route.tour()) {
+            names.add(compact.cities().get(ordinal).getName());
+        }
+        names.add(compact.cities().get(route.start()).getName());
+        assertEquals(best.getCityNames(), names);
+
+        // Cópia: o genoma da rota pode continuar sendo alterado pelo AG
+        best.getTour()[0] = 3;
+        assertArrayEquals(new int[] {0, 4, 1, 5, 3}, route.tour());
+    }
+
+    @Test
+    public void testPayloadsWithoutRoutesAreLeftAlone() {
+        assertNull(CompactResponse.of(Map.of("size", 0)));
+        assertNull(CompactResponse.of(List.of()));
+        assertNull(CompactResponse.of(null));
+    }
+}
@@ -0,0 +1,67 @@
+package com.yourproject.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DistanceMatrixTest {
+
+    @Test
+    public void testUndirectedEdgesAreMirrored() {
+        DistanceMatrix matrix = DistanceMatrix.fromEdges(3, new int[]{0, 1}, new int[]{1, 2}, new double[]{4, 7}, false);
+
+        assertEquals(4.0, matrix.distance(0, 1));
+        assertEquals(4.0, matrix.distance(1, 0));
+        assertEquals(7.0, matrix.distance(2, 1));
+        assertEquals(0.0, matrix.distance(2, 2));
+        assertTrue(matrix.isSymmetric());
+    }
+
+    @Test
+    public void testMissingEdgesAreUnreachable() {
+        DistanceMatrix matrix = DistanceMatrix.fromEdges(3, new int[]{0}, new int[]{1}, new double[]{4}, true);
+
+        assertEquals(DistanceMatrix.UNREACHABLE, matrix.distance(1, 0));
+        assertEquals(DistanceMatrix.UNREACHABLE, matrix.distance(0, 2));
+        assertTrue(matrix.hasEdge(0, 1));
+        assertFalse(matrix.hasEdge(1, 0));
+        assertTrue(matrix.hasEdge(1, 1));
+    }
+
+    @Test
+    public void testSymmetryDetectionOnDirectedEdges() {
+        DistanceMatrix asymmetric = DistanceMatrix.fromEdges(2, new int[]{0, 1}, new int[]{1, 0}, new double[]{3, 5}, true);
+        DistanceMatrix symmetric = DistanceMatrix.fromEdges(2, new int[]{0, 1}, new int[]{1, 0}, new double[]{3, 3}, true);
+
+        assertFalse(asymmetric.isSymmetric());
+        assertEquals(5.0, asymmetric.distance(1, 0));
+        assertTrue(symmetric.isSymmetric());
+    }
+
+    @Test
+    public void testInvalidInputIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> DistanceMatrix.fromEdges(2, new int[]{0}, new int[]{1}, new double[]{-1}, false));
+        assertThrows(IllegalArgumentException.class,
+            () -> DistanceMatrix.fromEdges(2, new int[]{0}, new int[]{1}, new double[]{Double.NaN}, false));
+        // 46341² não cabe num int: a multiplicação estouraria em silêncio
+        assertThrows(IllegalArgumentException.class,
+            () -> DistanceMatrix.fromEdges(DistanceMatrix.MAX_EXPLICIT_SIZE + 1, new int[0], new int[0], new double[0], false));
+        assertThrows(IllegalArgumentException.class, () -> DistanceMatrix.fromArray(3, new double[8]));
+    }
+
+    @Test
+    public void testCoordinateMetrics() {
+        List<City> cities = List.of(new City("A", "A", 0, 0), new City("B", "B", 3, 4));
+
+        assertEquals(5.0, DistanceMatrix.fromCoordinates(cities, DistanceMatrix.Metric.EUCLIDEAN).distance(0, 1));
+        // Um grau de longitude no equador: ~111.2 km
+        List<City> equator = List.of(new City("A", "A", 0, 0), new City("B", "B", 1, 0));
+        assertEquals(111.2, DistanceMatrix.fromCoordinates(equator, DistanceMatrix.Metric.HAVERSINE).distance(0, 1), 0.1);
+    }
+}
@@ -0,0 +1,59 @@
+package com.yourproject.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NeighborListsTest {
+
+    @Test
+    public void testGridMatchesMatrixRows() {
+        Random random = new Random(13);
+
+        for (int n : new int[]{2, 5, 40, 700}) {
+            List<City> cities = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                // Coordenadas inteiras em faixa pequena: muitos empates e pontos repetidos
+                double x = n > 100 ? random.nextDouble() * 5000 : random.nextInt(20);
+                double y = random.nextInt(3) == 0 ? 0 : random.nextInt(20);
+                cities.add(new City("C" + i, "C" + i, x, y));
+            }
+
+            DistanceMatrix matrix = DistanceMatrix.fromCoordinates(cities, DistanceMatrix.Metric.EUCLIDEAN);
+            NeighborLists expected = NeighborLists.fromMatrix(matrix, 16);
+            NeighborLists actual = NeighborLists.fromCoordinates(cities, 16);
+
+            assertEquals(expected.getK(), actual.getK());
+            for (int i = 0; i < n; i++) {
+                for (int r = 0; r < expected.getK(); r++) {
+                    assertEquals(expected.get(i, r), actual.get(i, r), "city " + i + " rank " + r);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGraphServesShorterAndLongerLists() {
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            cities.add(new City("C" + i, "C" + i, i * 10, (i % 7) * 3));
+        }
+        CityGraph graph = CityGraph.of(cities);
+
+        NeighborLists five = graph.getNeighborLists(5);
+        NeighborLists forty = graph.getNeighborLists(40);
+
+        assertEquals(5, five.getK());
+        assertEquals(40, forty.getK());
+        for (int i = 0; i < 50; i++) {
+            for (int r = 0; r < 5; r++) {
+                assertEquals(forty.get(i, r), five.get(i, r));
+            }
+        }
+        assertEquals(49, graph.getNeighborLists(100).getK());
+    }
+}
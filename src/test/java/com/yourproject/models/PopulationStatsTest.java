@@ -0,0 +1,51 @@
+package com.yourproject.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PopulationStatsTest {
+
+    @Test
+    public void testTopIndicesMatchStableSort() {
+        Random random = new Random(5);
+
+        for (int trial = 0; trial < 100; trial++) {
+            int n = 1 + random.nextInt(300);
+            double[] distances = new double[n];
+            for (int i = 0; i < n; i++) {
+                distances[i] = random.nextInt(50); // Muitos empates
+            }
+
+            int[] sorted = IntStream.range(0, n).boxed()
+                .sorted(Comparator.comparingDouble(i -> distances[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+            for (int k : new int[]{0, 1, 5, n / 2, n, n + 3}) {
+                int expected = Math.min(k, n);
+                assertArrayEquals(Arrays.copyOf(sorted, expected), PopulationStats.topIndices(distances, k));
+            }
+
+            PopulationStats stats = PopulationStats.of(distances);
+            assertEquals(sorted[0], stats.bestIndex());
+            assertEquals(sorted[n - 1], stats.worstIndex());
+        }
+    }
+
+    @Test
+    public void testMeanAndVariance() {
+        PopulationStats stats = PopulationStats.of(new double[]{2, 4, 4, 4, 5, 5, 7, 9});
+
+        assertEquals(2.0, stats.bestDistance());
+        assertEquals(9.0, stats.worstDistance());
+        assertEquals(5.0, stats.averageDistance(), 1e-12);
+        assertEquals(4.0, stats.variance(), 1e-12);
+    }
+}
@@ -0,0 +1,29 @@
+package com.yourproject.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PopulationTest {
+
+    private static CityGraph graph(DistanceMatrix.Metric metric) {
+        return CityGraph.of(List.of(
+            new City("a", "a", 0, 0), new City("b", "b", 10, 0), new City("c", "c", 10, 10),
+            new City("d", "d", 0, 10), new City("e", "e", 5, 20)), metric);
+    }
+
+    @Test
+    public void testEdgeDiversityComparesEdgesWithTheBestRoute() {
+        CityGraph graph = graph(DistanceMatrix.Metric.EUCLIDEAN);
+        Route best = new Route(graph, 0, new int[]{1, 2, 4, 3});
+        Route reversed = new Route(graph, 0, new int[]{3, 4, 2, 1});
+        Route other = new Route(graph, 0, new int[]{2, 1, 4, 3}); // 1-2, 4-3 e 3-0 em comum
+
+        assertEquals(0.0, new Population(List.of(best, reversed)).getEdgeDiversity(8));
+        assertEquals(0.2, new Population(List.of(best, other)).getEdgeDiversity(8), 1e-12);
+        assertTrue(Double.isNaN(new Population(0).getEdgeDiversity(8)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.yourproject.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RouteTest {
+
+    @Test
+    public void testIncrementalDistanceOnSymmetricGraph() {
+        Random random = new Random(17);
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            cities.add(new City("C" + i, "C" + i, random.nextDouble() * 100, random.nextDouble() * 100));
+        }
+
+        assertIncrementalMatchesFull(CityGraph.of(cities), random);
+    }
+
+    @Test
+    public void testIncrementalDistanceOnDirectedGraph() {
+        Random random = new Random(23);
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            cities.add(new City("C" + i, "C" + i, 0, 0));
+        }
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            for (int j = 0; j < 30; j++) {
+                if (i != j && random.nextInt(4) > 0) {
+                    edges.add(new Edge("C" + i, "C" + j, 1 + random.nextInt(100)));
+                }
+            }
+        }
+
+        assertIncrementalMatchesFull(CityGraph.withEdges(cities, edges, true), random);
+    }
+
+    private static void assertIncrementalMatchesFull(CityGraph graph, Random random) {
+        int n = graph.size() - 1;
+        int[] tour = new int[n];
+        for (int i = 0; i < n; i++) {
+            tour[i] = i + 1;
+        }
+        Route route = new Route(graph, 0, tour);
+        route.getTotalDistance();
+
+        for (int step = 0; step < 2000; step++) {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            switch (step % 3) {
+                case 0 -> route.swap(i, j);
+                case 1 -> route.reverse(Math.min(i, j), Math.max(i, j));
+                default -> {
+                    int from = Math.min(i, j);
+                    int[] segment = new int[Math.max(i, j) - from + 1];
+                    for (int k = 0; k < segment.length; k++) {
+                        segment[k] = route.getCityIndex(from + segment.length - 1 - k);
+                    }
+                    route.setSegment(from, segment);
+                }
+            }
+
+            double full = new Route(graph, 0, route.getTour().clone()).getTotalDistance();
+            assertEquals(full, route.getTotalDistance(), 1e-6);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.yourproject.services;
+
+import com.yourproject.models.City;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GenerationResult;
+import com.yourproject.models.RunStatus;
+import com.yourproject.services.session.RunListener;
+import com.yourproject.services.session.RunSession;
+import com.yourproject.services.session.RunSessionRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class GAJobServiceTest {
+
+    @Test
+    public void testJobCancelledAfterWorkerPickedItUpFinishes() throws InterruptedException {
+        RunSessionRegistry sessions = new RunSessionRegistry(1, 1, Duration.ZERO);
+        GeneticAlgorithmService gaService = mock(GeneticAlgorithmService.class);
+        GAJobService jobService = new GAJobService(gaService, sessions, 1, 1);
+        try {
+            CityGraph graph = CityGraph.of(List.of(new City("a", "a", 0, 0), new City("b", "b", 1, 0)));
+            RunSession session = sessions.create(graph, new GAConfig());
+            session.setStatus(RunStatus.QUEUED);
+            AtomicBoolean finished = new AtomicBoolean();
+            session.addListener(new RunListener() {
+                @Override
+                public void onGeneration(RunSession s, GenerationResult result) {
+                }
+
+                @Override
+                public void onFinished(RunSession s) {
+                    finished.set(true);
+                }
+            });
+
+            // executor.remove perdeu a corrida: o worker já tirou a tarefa da fila
+            session.requestCancel();
+            jobService.execute(session);
+
+            assertEquals(RunStatus.CANCELLED, session.getStatus());
+            assertTrue(finished.get());
+            verify(gaService, never()).runGeneticAlgorithm(any(RunSession.class));
+
+            // Não ocupa mais a vaga do registro
+            Thread.sleep(5);
+            sessions.evictIdle();
+            assertEquals(0, sessions.size());
+        } finally {
+            jobService.shutdown();
+        }
+    }
+}
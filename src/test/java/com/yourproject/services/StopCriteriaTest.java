@@ -0,0 +1,58 @@
+package com.yourproject.services;
+
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GenerationResult;
+import com.yourproject.models.StopReason;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class StopCriteriaTest {
+
+    @Test
+    public void testStagnation() {
+        GAConfig config = new GAConfig();
+        config.setStagnationGenerations(3);
+        StopCriteria criteria = new StopCriteria(config, 0);
+
+        assertNull(criteria.check(result(0, 100), 0, 0));
+        assertNull(criteria.check(result(1, 90), 0, 0));
+        assertNull(criteria.check(result(2, 90), 0, 0));
+        assertNull(criteria.check(result(3, 90), 0, 0));
+        assertEquals(StopReason.STAGNATION, criteria.check(result(4, 90), 0, 0));
+        assertEquals(StopReason.STAGNATION, criteria.getReason());
+    }
+
+    @Test
+    public void testTargetDistanceWinsOverOtherCriteria() {
+        GAConfig config = new GAConfig();
+        config.setTargetDistance(50.0);
+        config.setMaxEvaluations(10L);
+        StopCriteria criteria = new StopCriteria(config, 0);
+
+        assertNull(criteria.check(result(0, 80), 5, 0));
+        assertEquals(StopReason.TARGET_DISTANCE, criteria.check(result(1, 50), 20, 0));
+    }
+
+    @Test
+    public void testBudgets() {
+        GAConfig config = new GAConfig();
+        config.setMaxEvaluations(1000L);
+        StopCriteria evaluations = new StopCriteria(config, 0);
+        assertNull(evaluations.check(result(0, 10), 999, 0));
+        assertEquals(StopReason.MAX_EVALUATIONS, evaluations.check(result(1, 9), 1000, 0));
+
+        config = new GAConfig();
+        config.setTimeBudgetMs(5L);
+        StopCriteria time = new StopCriteria(config, 1_000_000_000L);
+        assertNull(time.check(result(0, 10), 0, 1_004_000_000L));
+        assertEquals(StopReason.TIME_BUDGET, time.check(result(1, 9), 0, 1_005_000_000L));
+    }
+
+    private static GenerationResult result(int generation, double best) {
+        return new GenerationResult(generation, null, best, best, best, List.of());
+    }
+}
@@ -0,0 +1,128 @@
+package com.yourproject.services.cache;
+
+import com.yourproject.models.City;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.GAConfig;
+import com.yourproject.models.GAExecutionResult;
+import com.yourproject.models.GenerationResult;
+import com.yourproject.models.HistoryPolicy;
+import com.yourproject.models.Route;
+import com.yourproject.models.StopReason;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultCacheTest {
+
+    private final CityGraph graph = CityGraph.of(List.of(
+        new City("A", "A", 0, 0),
+        new City("B", "B", 10, 0),
+        new City("C", "C", 10, 10),
+        new City("D", "D", 0, 10)
+    ));
+
+    @Test
+    public void testKeyDependsOnConfigAndSeed() {
+        ResultCache cache = new ResultCache(8, Duration.ofHours(1));
+        GAConfig first = config(1L);
+        GAConfig same = config(1L);
+        GAConfig otherSeed = config(2L);
+
+        assertEquals(cache.keyOf(graph, first), cache.keyOf(graph, same));
+        assertNotEquals(cache.keyOf(graph, first), cache.keyOf(graph, otherSeed));
+    }
+
+    @Test
+    public void testKeyIgnoresSettingsThatDoNotChangeTheResult() {
+        ResultCache cache = new ResultCache(8, Duration.ofHours(1));
+        GAConfig other = config(1L);
+        other.setParallelism(4);
+        other.setHistoryPolicy(HistoryPolicy.NONE);
+        GAConfig longer = config(1L);
+        longer.setMaxGenerations(500);
+
+        assertEquals(cache.keyOf(graph, config(1L)), cache.keyOf(graph, other));
+        assertNotEquals(cache.keyOf(graph, config(1L)), cache.keyOf(graph, longer));
+    }
+
+    @Test
+    public void testHitsCarryNoRunIdOrHistory() {
+        ResultCache cache = new ResultCache(8, Duration.ofHours(1));
+        GAConfig config = config(1L);
+        ResultCache.Key key = cache.keyOf(graph, config);
+        Route route = new Route(graph, 0, new int[]{1, 2, 3});
+        GAExecutionResult stored = new GAExecutionResult("run", route, route.getTotalDistance(), 20,
+            List.of(new GenerationResult(1, route, route.getTotalDistance(), 0, 0, List.of(route))), null,
+            config, 5, StopReason.MAX_GENERATIONS, 100);
+        cache.put(key, stored);
+        route.getTour()[0] = 2; // A entrada guarda uma cópia
+
+        GAExecutionResult hit = cache.get(key, graph, config);
+        assertNull(hit.getRunId());
+        assertTrue(hit.getGenerationHistory().isEmpty());
+        assertArrayEquals(new int[]{1, 2, 3}, hit.getBestRoute().getTour());
+        assertEquals(stored.getBestDistance(), hit.getBestDistance());
+        assertEquals(StopReason.MAX_GENERATIONS, hit.getStopReason());
+        assertEquals(100, hit.getEvaluations());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvictionAndStats() {
+        ResultCache cache = new ResultCache(2, Duration.ofHours(1));
+        ResultCache.Key k1 = cache.keyOf(graph, config(1L));
+        ResultCache.Key k2 = cache.keyOf(graph, config(2L));
+        ResultCache.Key k3 = cache.keyOf(graph, config(3L));
+        cache.put(k1, result());
+        cache.put(k2, result());
+        assertNotNull(cache.get(k1, graph, config(1L))); // k1 passa a ser o mais recente
+        cache.put(k3, result());
+
+        assertNull(cache.get(k2, graph, config(2L)));
+        assertNotNull(cache.get(k1, graph, config(1L)));
+
+        Map<String, Object> stats = cache.getStats();
+        assertEquals(2L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+        assertEquals(1L, stats.get("evictions"));
+    }
+
+    @Test
+    public void testExpiredEntriesAreMisses() {
+        ResultCache cache = new ResultCache(8, Duration.ZERO);
+        ResultCache.Key key = cache.keyOf(graph, config(1L));
+        cache.put(key, result());
+
+        assertNull(cache.get(key, graph, config(1L)));
+    }
+
+    @Test
+    public void testKeepsOnlyTheBestTour() {
+        ResultCache cache = new ResultCache(8, Duration.ofHours(1));
+        cache.offerBestTour(new Route(graph, 0, new int[]{1, 2, 3}));
+        cache.offerBestTour(new Route(graph, 0, new int[]{2, 1, 3}));
+
+        assertArrayEquals(new int[]{1, 2, 3}, cache.bestTour(graph, 0));
+        assertNull(cache.bestTour(graph, 1));
+    }
+
+    private static GAConfig config(long seed) {
+        GAConfig config = new GAConfig();
+        config.setSeed(seed);
+        return config;
+    }
+
+    private GAExecutionResult result() {
+        Route route = new Route(graph, 0, new int[]{1, 2, 3});
+        return new GAExecutionResult("run", route, route.getTotalDistance(), 0, List.of(), null,
+            new GAConfig(), 0, null, 0);
+    }
+}
@@ -0,0 +1,91 @@
+package com.yourproject.services.island;
+
+import com.yourproject.models.City;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.Route;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RouteCodecTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random random = new Random(5);
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            cities.add(new City("C" + i, "C" + i, random.nextDouble() * 1000, random.nextDouble() * 1000));
+        }
+        CityGraph graph = CityGraph.of(cities);
+
+        List<Route> routes = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            List<Integer> order = new ArrayList<>();
+            for (int i = 1; i < graph.size(); i++) {
+                order.add(i);
+            }
+            Collections.shuffle(order, random);
+            routes.add(new Route(graph, 0, order.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        byte[] encoded = RouteCodec.encode("grupo", graph.getFingerprint(), routes);
+        MigrationMessage message = RouteCodec.decode(new DataInputStream(new ByteArrayInputStream(encoded)));
+
+        assertEquals("grupo", message.group());
+        assertEquals(graph.getFingerprint(), message.graphFingerprint());
+        assertEquals(0, message.start());
+        assertEquals(routes.size(), message.tours().size());
+        for (int r = 0; r < routes.size(); r++) {
+            assertArrayEquals(routes.get(r).getTour(), message.tours().get(r));
+        }
+    }
+
+    @Test
+    public void testRejectsCorruptedFrames() throws IOException {
+        CityGraph graph = CityGraph.of(List.of(new City("a", "a", 0, 0), new City("b", "b", 1, 0), new City("c", "c", 0, 1)));
+        List<Route> routes = List.of(new Route(graph, 0, new int[]{1, 2}));
+        byte[] valid = RouteCodec.encode("g", graph.getFingerprint(), routes);
+        int countOffset = valid.length - 4; // Contagem, comprimento e duas cidades: um byte cada
+
+        assertThrows(IOException.class, () -> decode(withVarInt(valid, countOffset, -1)));           // contagem negativa
+        assertThrows(IOException.class, () -> decode(withVarInt(valid, countOffset + 1, -5)));       // comprimento negativo
+        assertThrows(IOException.class, () -> decode(withVarInt(valid, countOffset + 1, 1 << 20)));  // além do quadro
+        assertThrows(IOException.class, () -> decode(withVarInt(valid, countOffset + 2, -2)));       // cidade negativa
+    }
+
+    /**
+     * Copy of the frame with the one-byte varint at offset replaced by value
+     */
+    private static byte[] withVarInt(byte[] frame, int offset, int value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(frame, 0, offset);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            RouteCodec.writeVarInt(out, value);
+            out.write(frame, offset + 1, frame.length - offset - 1);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static MigrationMessage decode(byte[] frame) throws IOException {
+        return RouteCodec.decode(new DataInputStream(new ByteArrayInputStream(frame)));
+    }
+
+    @Test
+    public void testRejectsForeignPayload() {
+        byte[] garbage = {1, 2, 3, 4, 5, 6, 7, 8};
+        assertThrows(IOException.class,
+            () -> RouteCodec.decode(new DataInputStream(new ByteArrayInputStream(garbage))));
+    }
+}
@@ -0,0 +1,122 @@
+package com.yourproject.services.operators;
+
+import com.yourproject.models.City;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.Edge;
+import com.yourproject.models.Route;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalSearchTest {
+
+    private final LocalSearch localSearch = new LocalSearch();
+
+    @Test
+    public void testImprovesEuclideanTourInPlace() {
+        Random random = new Random(31);
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            cities.add(new City("C" + i, "C" + i, random.nextDouble() * 1000, random.nextDouble() * 1000));
+        }
+        CityGraph graph = CityGraph.of(cities);
+
+        Route route = randomRoute(graph, random);
+        double before = route.getTotalDistance();
+
+        assertTrue(localSearch.improve(route, graph.getNeighborLists(10)));
+        assertValidTour(route);
+        assertEquals(fullDistance(route), route.getTotalDistance(), 1e-6);
+        // 2-opt + Or-opt a partir de um tour aleatório fica bem abaixo da metade
+        assertTrue(route.getTotalDistance() < before * 0.5);
+
+        // Uma segunda passada nunca piora o tour
+        double first = route.getTotalDistance();
+        localSearch.improve(route, graph.getNeighborLists(10));
+        assertTrue(route.getTotalDistance() <= first);
+        assertEquals(fullDistance(route), route.getTotalDistance(), 1e-6);
+    }
+
+    @Test
+    public void testImprovedLeavesSharedRouteUntouched() {
+        Random random = new Random(37);
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            cities.add(new City("C" + i, "C" + i, random.nextDouble() * 100, random.nextDouble() * 100));
+        }
+        CityGraph graph = CityGraph.of(cities);
+
+        Route shared = randomRoute(graph, random);
+        int[] tour = shared.getTour().clone();
+
+        Route improved = localSearch.improved(shared, graph.getNeighborLists(8));
+
+        assertNotSame(shared, improved);
+        assertArrayEquals(tour, shared.getTour());
+        assertValidTour(improved);
+        assertTrue(improved.getTotalDistance() < shared.getTotalDistance());
+    }
+
+    @Test
+    public void testDirectedGraphKeepsValidTour() {
+        Random random = new Random(41);
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            cities.add(new City("C" + i, "C" + i, 0, 0));
+        }
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            for (int j = 0; j < 40; j++) {
+                if (i != j) {
+                    edges.add(new Edge("C" + i, "C" + j, 1 + random.nextInt(100)));
+                }
+            }
+        }
+        CityGraph graph = CityGraph.withEdges(cities, edges, true);
+
+        Route route = randomRoute(graph, random);
+        double before = route.getTotalDistance();
+
+        localSearch.improve(route, graph.getNeighborLists(8));
+
+        assertValidTour(route);
+        assertEquals(fullDistance(route), route.getTotalDistance(), 1e-6);
+        assertTrue(route.getTotalDistance() <= before);
+    }
+
+    private static Route randomRoute(CityGraph graph, Random random) {
+        int[] tour = new int[graph.size() - 1];
+        for (int i = 0; i < tour.length; i++) {
+            tour[i] = i + 1;
+        }
+        for (int i = tour.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = tour[i];
+            tour[i] = tour[j];
+            tour[j] = temp;
+        }
+        Route route = new Route(graph, 0, tour);
+        route.getTotalDistance();
+        return route;
+    }
+
+    private static double fullDistance(Route route) {
+        return new Route(route.getGraph(), route.getStartIndex(), route.getTour().clone()).getTotalDistance();
+    }
+
+    private static void assertValidTour(Route route) {
+        int[] sorted = route.getTour().clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(i + 1, sorted[i]);
+        }
+    }
+}
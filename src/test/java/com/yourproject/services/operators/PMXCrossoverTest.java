@@ -0,0 +1,136 @@
+package com.yourproject.services.operators;
+
+import com.yourproject.models.City;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.Route;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PMXCrossoverTest {
+
+    @Test
+    public void testMatchesListBasedImplementation() {
+        Random random = new Random(7);
+
+        for (int n : new int[]{8, 13, 50, 200}) {
+            CityGraph graph = randomGraph(n, random);
+            City start = graph.getCity(0);
+
+            for (int trial = 0; trial < 200; trial++) {
+                Route parent1 = randomRoute(graph, start, random);
+                Route parent2 = randomRoute(graph, start, random);
+                int point1 = random.nextInt(n - 2);
+                int point2 = point1 + 1 + random.nextInt(n - 1 - point1);
+
+                Route[] offspring = PMXCrossover.crossover(parent1, parent2, point1, point2);
+
+                assertEquals(referenceOffspring(parent1, parent2, point1, point2), offspring[0].getCities());
+                assertEquals(referenceOffspring(parent2, parent1, point1, point2), offspring[1].getCities());
+            }
+        }
+    }
+
+    @Test
+    public void testOffspringArePermutations() {
+        Random random = new Random(11);
+        CityGraph graph = randomGraph(100, random);
+        City start = graph.getCity(0);
+
+        Route[] offspring = PMXCrossover.crossover(
+            randomRoute(graph, start, random), randomRoute(graph, start, random), 20, 60);
+
+        for (Route child : offspring) {
+            assertEquals(99, child.size());
+            assertEquals(99, child.getCities().stream().distinct().count());
+            assertTrue(child.getCities().stream().noneMatch(start::equals));
+        }
+    }
+
+    @Test
+    public void testRejectsInvalidPoints() {
+        Random random = new Random(3);
+        CityGraph graph = randomGraph(8, random);
+        Route route = randomRoute(graph, graph.getCity(0), random);
+
+        assertThrows(IllegalArgumentException.class, () -> PMXCrossover.crossover(route, route, 5, 2));
+        assertThrows(IllegalArgumentException.class, () -> PMXCrossover.crossover(route, route, 2, 8));
+    }
+
+    private static CityGraph randomGraph(int n, Random random) {
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            cities.add(new City("C" + i, "C" + i, random.nextDouble() * 100, random.nextDouble() * 100));
+        }
+        return CityGraph.of(cities);
+    }
+
+    private static Route randomRoute(CityGraph graph, City start, Random random) {
+        List<City> cities = new ArrayList<>(graph.getCities());
+        cities.remove(start);
+        Collections.shuffle(cities, random);
+        return new Route(graph, start, cities);
+    }
+
+    /**
+     * Previous List/HashMap based operator, kept as the behavioural reference
+     */
+    private static List<City> referenceOffspring(Route parent1, Route parent2, int point1, int point2) {
+        int size = parent1.size();
+        List<City> cities = new ArrayList<>(Collections.nCopies(size, null));
+
+        for (int i = point1; i < point2; i++) {
+            cities.set(i, parent1.getCity(i));
+        }
+
+        Map<City, City> mapping = new HashMap<>();
+        for (int i = point1; i < point2; i++) {
+            mapping.put(parent2.getCity(i), parent1.getCity(i));
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (i >= point1 && i < point2) {
+                continue;
+            }
+
+            City candidate = parent2.getCity(i);
+            while (cities.contains(candidate)) {
+                City mapped = mapping.get(candidate);
+                if (mapped == null) {
+                    for (City city : parent2.getCities()) {
+                        if (!cities.contains(city)) {
+                            candidate = city;
+                            break;
+                        }
+                    }
+                    break;
+                }
+                candidate = mapped;
+            }
+
+            cities.set(i, candidate);
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (cities.get(i) == null) {
+                for (City city : parent2.getCities()) {
+                    if (!cities.contains(city)) {
+                        cities.set(i, city);
+                        break;
+                    }
+                }
+            }
+        }
+
+        return cities;
+    }
+}
@@ -0,0 +1,74 @@
+package com.yourproject.services.operators;
+
+import com.yourproject.models.City;
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.Route;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SeedingOperatorTest {
+
+    private final SeedingOperator seeding = new SeedingOperator();
+
+    @Test
+    public void testHeuristicsBuildShortPermutations() {
+        Random random = new Random(19);
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            cities.add(new City("C" + i, "C" + i, random.nextDouble() * 1000, random.nextDouble() * 1000));
+        }
+        CityGraph graph = CityGraph.of(cities);
+
+        int[] shuffled = seeding.toTour(seeding.spaceFillingCurve(graph), 0);
+        for (int i = shuffled.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = temp;
+        }
+        double randomDistance = new Route(graph, 0, shuffled).getTotalDistance();
+
+        List<int[]> cycles = List.of(
+            seeding.nearestNeighbor(graph, 42),
+            seeding.greedyEdge(graph),
+            seeding.spaceFillingCurve(graph)
+        );
+        for (int[] cycle : cycles) {
+            assertPermutation(cycle, graph.size());
+            int[] tour = seeding.toTour(cycle, 7);
+            Route route = new Route(graph, 7, tour);
+            assertTrue(route.getTotalDistance() < randomDistance / 5);
+
+            int[] kicked = seeding.doubleBridge(tour, new SplittableRandom(3));
+            int[] expected = tour.clone();
+            Arrays.sort(expected);
+            Arrays.sort(kicked);
+            assertArrayEquals(expected, kicked);
+        }
+    }
+
+    @Test
+    public void testSingleCityGraph() {
+        CityGraph graph = CityGraph.of(List.of(new City("A", "A", 0, 0)));
+
+        assertArrayEquals(new int[]{0}, seeding.nearestNeighbor(graph, 0));
+        assertArrayEquals(new int[]{0}, seeding.greedyEdge(graph));
+        assertArrayEquals(new int[]{0}, seeding.spaceFillingCurve(graph));
+    }
+
+    private static void assertPermutation(int[] cycle, int n) {
+        int[] sorted = cycle.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < n; i++) {
+            assertTrue(sorted[i] == i, "ordinal ausente: " + i);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.yourproject.services.tsplib;
+
+import com.yourproject.models.CityGraph;
+import com.yourproject.models.DistanceMatrix;
+import com.yourproject.utils.DistanceCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TsplibParserTest {
+
+    @Test
+    public void testNodeCoordinatesWithRoundedDistances() throws IOException {
+        TsplibParser.Instance instance = parse("""
+            NAME : square
+            COMMENT : nodes out of order
+            TYPE : TSP
+            DIMENSION : 4
+            EDGE_WEIGHT_TYPE : EUC_2D
+            NODE_COORD_SECTION
+            2 3 4.4
+            1 0 0
+            4 -1.5e1 0
+            3 0.0 10
+            EOF
+            """);
+
+        CityGraph graph = instance.graph();
+        assertEquals("square", instance.name());
+        assertEquals(4, graph.size());
+        assertEquals("1", graph.getCity(0).getId());
+        assertEquals(3.0, graph.getCity(1).getX());
+        assertEquals(-15.0, graph.getCity(3).getX());
+        assertEquals(5.0, graph.distance(0, 1)); // 5.32 arredondado
+        assertEquals(15.0, graph.distance(3, 0));
+        assertTrue(graph.getDistances().isSymmetric());
+    }
+
+    @Test
+    public void testFullMatrixKeepsAsymmetricDistances() throws IOException {
+        TsplibParser.Instance instance = parse("""
+            NAME: tiny
+            TYPE: ATSP
+            DIMENSION: 3
+            EDGE_WEIGHT_TYPE: EXPLICIT
+            EDGE_WEIGHT_FORMAT: FULL_MATRIX
+            EDGE_WEIGHT_SECTION
+             9999 1 5
+             7 9999 2
+             3 8 9999
+            EOF
+            """);
+
+        CityGraph graph = instance.graph();
+        assertEquals("ATSP", instance.type());
+        assertEquals(1.0, graph.distance(0, 1));
+        assertEquals(7.0, graph.distance(1, 0));
+        assertEquals(3.0, graph.distance(2, 0));
+        assertEquals(0.0, graph.distance(2, 2));
+        assertFalse(graph.getDistances().isSymmetric());
+    }
+
+    @Test
+    public void testTriangularFormatsAreMirrored() throws IOException {
+        String upper = """
+            TYPE: TSP
+            DIMENSION: 4
+            EDGE_WEIGHT_TYPE: EXPLICIT
+            EDGE_WEIGHT_FORMAT: UPPER_ROW
+            EDGE_WEIGHT_SECTION
+            1 2 3
+            4 5
+            6
+            """;
+        String lowerDiagonal = """
+            TYPE: TSP
+            DIMENSION: 4
+            EDGE_WEIGHT_TYPE: EXPLICIT
+            EDGE_WEIGHT_FORMAT: LOWER_DIAG_ROW
+            EDGE_WEIGHT_SECTION
+            0 1 0 2 4 0 3 5 6 0
+            EOF
+            """;
+
+        CityGraph first = parse(upper).graph();
+        CityGraph second = parse(lowerDiagonal).graph();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                assertEquals(first.distance(i, j), second.distance(i, j));
+                assertEquals(first.distance(i, j), first.distance(j, i));
+            }
+        }
+        assertEquals(6.0, first.distance(3, 2));
+        assertEquals(first.getFingerprint(), second.getFingerprint());
+    }
+
+    @Test
+    public void testLargeInstanceComputesDistancesOnDemand() throws IOException {
+        int n = DistanceMatrix.DENSE_LIMIT + 500;
+        Random random = new Random(3);
+        double[] x = new double[n];
+        double[] y = new double[n];
+        StringBuilder file = new StringBuilder("TYPE: TSP\nDIMENSION: " + n + "\nEDGE_WEIGHT_TYPE: EUC_2D\nNODE_COORD_SECTION\n");
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextInt(100_000);
+            y[i] = random.nextInt(100_000);
+            file.append(i + 1).append(' ').append((int) x[i]).append(' ').append((int) y[i]).append('\n');
+        }
+
+        CityGraph graph = parse(file.toString()).graph();
+        for (int s = 0; s < 1000; s++) {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            assertEquals(DistanceCalculator.euc2d(x[i], y[i], x[j], y[j]), graph.distance(i, j));
+        }
+
+        // Vizinho mais próximo pela grade igual ao da força bruta
+        for (int i = 0; i < 50; i++) {
+            int nearest = -1;
+            for (int j = 0; j < n; j++) {
+                if (j != i && (nearest < 0 || DistanceCalculator.euclidean(x[i], y[i], x[j], y[j])
+                        < DistanceCalculator.euclidean(x[i], y[i], x[nearest], y[nearest]))) {
+                    nearest = j;
+                }
+            }
+            assertEquals(nearest, graph.getNeighborLists(1).get(i, 0));
+        }
+    }
+
+    @Test
+    public void testLargeGeoInstanceFindsNearestNeighbors() throws IOException {
+        int n = DistanceMatrix.DENSE_LIMIT + 500;
+        Random random = new Random(7);
+        StringBuilder file = new StringBuilder("TYPE: TSP\nDIMENSION: " + n + "\nEDGE_WEIGHT_TYPE: GEO\nNODE_COORD_SECTION\n");
+        for (int i = 0; i < n; i++) {
+            // DDD.MM: graus inteiros e minutos na parte fracionária
+            double latitude = random.nextInt(120) - 60 + random.nextInt(60) / 100.0;
+            double longitude = random.nextInt(360) - 180 + random.nextInt(60) / 100.0;
+            file.append(i + 1).append(' ').append(latitude).append(' ').append(longitude).append('\n');
+        }
+
+        CityGraph graph = parse(file.toString()).graph();
+        for (int i = 0; i < 50; i++) {
+            double nearest = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < n; j++) {
+                if (j != i) {
+                    nearest = Math.min(nearest, graph.distance(i, j));
+                }
+            }
+            // Empates de distâncias inteiras podem escolher outra cidade à mesma distância
+            assertEquals(nearest, graph.distance(i, graph.getNeighborLists(1).get(i, 0)));
+            for (int r = 1; r < CityGraph.DEFAULT_NEIGHBOR_COUNT; r++) {
+                assertTrue(graph.distance(i, graph.getNeighborLists(16).get(i, r - 1))
+                    <= graph.distance(i, graph.getNeighborLists(16).get(i, r)));
+            }
+        }
+    }
+
+    @Test
+    public void testExplicitInstanceWithoutCoordinatesIsFlagged() throws IOException {
+        TsplibParser.Instance explicit = parse("""
+            TYPE: TSP
+            DIMENSION: 3
+            EDGE_WEIGHT_TYPE: EXPLICIT
+            EDGE_WEIGHT_FORMAT: UPPER_ROW
+            EDGE_WEIGHT_SECTION
+            1 2
+            3
+            EOF
+            """);
+        TsplibParser.Instance withDisplay = parse("""
+            TYPE: TSP
+            DIMENSION: 3
+            EDGE_WEIGHT_TYPE: EXPLICIT
+            EDGE_WEIGHT_FORMAT: UPPER_ROW
+            EDGE_WEIGHT_SECTION
+            1 2
+            3
+            DISPLAY_DATA_SECTION
+            3 5 5
+            1 0 0
+            2 1 0
+            EOF
+            """);
+
+        assertFalse(explicit.hasCoordinates());
+        assertTrue(withDisplay.hasCoordinates());
+        assertEquals(5.0, withDisplay.graph().getCity(2).getY());
+        assertEquals(2.0, withDisplay.graph().distance(2, 0));
+    }
+
+    @Test
+    public void testMalformedFilesAreRejected() {
+        IllegalArgumentException badNumber = assertThrows(IllegalArgumentException.class, () -> parse("""
+            TYPE: TSP
+            DIMENSION: 3
+            EDGE_WEIGHT_TYPE: EUC_2D
+            NODE_COORD_SECTION
+            1 0 0
+            2 3 x
+            """));
+        assertTrue(badNumber.getMessage().contains("linha 6"), badNumber.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> parse("TYPE: TSP\nEDGE_WEIGHT_TYPE: EUC_2D\nEOF\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("TYPE: TSP\nDIMENSION: 3\nEDGE_WEIGHT_TYPE: EUC_3D\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("TYPE: CVRP\nDIMENSION: 3\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse(
+            "TYPE: TSP\nDIMENSION: " + (TsplibParser.MAX_DIMENSION + 1) + "\nEDGE_WEIGHT_TYPE: EUC_2D\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("""
+            TYPE: TSP
+            DIMENSION: 2
+            EDGE_WEIGHT_TYPE: EUC_2D
+            NODE_COORD_SECTION
+            1 0 0
+            1 3 4
+            """));
+        assertThrows(IllegalArgumentException.class, () -> parse("""
+            TYPE: TSP
+            DIMENSION: 3
+            EDGE_WEIGHT_TYPE: EUC_2D
+            NODE_COORD_SECTION
+            1 0 0
+            """));
+    }
+
+    private static TsplibParser.Instance parse(String content) throws IOException {
+        return TsplibParser.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}